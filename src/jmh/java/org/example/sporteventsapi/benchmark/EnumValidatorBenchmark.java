@@ -0,0 +1,47 @@
+package org.example.sporteventsapi.benchmark;
+
+import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.validator.EnumValidator;
+import org.example.sporteventsapi.validator.ValidEnum;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumValidatorBenchmark {
+
+    @ValidEnum(enumClass = SportType.class)
+    private static SportType annotated;
+
+    /**
+     * First, last and unknown constant, so both the early exit and the full scan are measured.
+     */
+    @Param({"FOOTBALL", "MMA", "CURLING"})
+    private String name;
+
+    private EnumValidator validator;
+
+    private SportType constant;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchFieldException {
+        validator = new EnumValidator();
+        validator.initialize(EnumValidatorBenchmark.class.getDeclaredField("annotated").getAnnotation(ValidEnum.class));
+        constant = SportType.TENNIS;
+    }
+
+    @Benchmark
+    public boolean isValidString() {
+        return validator.isValid(name, null);
+    }
+
+    @Benchmark
+    public boolean isValidEnum() {
+        return validator.isValid(constant, null);
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.sporteventsapi.benchmark;
+
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.model.SportEvent;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic datasets spread evenly over every sport type and status, so each filter
+ * combination of a benchmark selects a comparable share of the rows from run to run.
+ */
+final class SportEventData {
+
+    private static final SportType[] TYPES = SportType.values();
+    private static final SportEventStatus[] STATUSES = SportEventStatus.values();
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    private SportEventData() {
+    }
+
+    static List<SportEventDTO> dtos(int size) {
+        var random = new SplittableRandom(size);
+        var result = new ArrayList<SportEventDTO>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(SportEventDTO.builder()
+                    .name("event-" + i)
+                    .sportType(TYPES[random.nextInt(TYPES.length)])
+                    .eventStatus(STATUSES[random.nextInt(STATUSES.length)])
+                    .startTime(EPOCH.plusMinutes(random.nextInt(525_600)))
+                    .build());
+        }
+        return result;
+    }
+
+    static List<SportEvent> entities(int size) {
+        var result = new ArrayList<SportEvent>(size);
+        long id = 1;
+        for (var dto : dtos(size)) {
+            var entity = new SportEvent(dto.getName(), dto.getSportType(), dto.getEventStatus(), dto.getStartTime());
+            entity.setId(id++);
+            entity.setVersion(0L);
+            result.add(entity);
+        }
+        return result;
+    }
+}
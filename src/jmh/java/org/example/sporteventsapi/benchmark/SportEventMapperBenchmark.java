@@ -0,0 +1,33 @@
+package org.example.sporteventsapi.benchmark;
+
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.mapping.SportEventMapper;
+import org.example.sporteventsapi.model.SportEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SportEventMapperBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<SportEvent> entities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entities = SportEventData.entities(size);
+    }
+
+    @Benchmark
+    public List<SportEventDTO> toDtoList() {
+        return SportEventMapper.INSTANCE.toDtoList(entities);
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.sporteventsapi.benchmark;
+
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.example.sporteventsapi.index.SportEventIndex;
+import org.example.sporteventsapi.index.SportEventNameIndex;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Name search over a million events named like "Boston Tigers vs Denver Hawks, round 12", one
+ * page of 100 per query. Both indexes are filled directly, the repository is never touched.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SportEventNameIndexBenchmark {
+
+    private static final String[] CITIES = {
+            "Boston", "Denver", "Chicago", "Seattle", "Dallas", "Miami", "Phoenix", "Detroit", "Atlanta", "Portland",
+            "Toronto", "Montreal", "Vancouver", "Calgary", "Ottawa", "London", "Madrid", "Munich", "Milan", "Paris",
+            "Lisbon", "Porto", "Vienna", "Prague", "Warsaw", "Oslo", "Helsinki", "Dublin", "Glasgow", "Berlin"};
+    private static final String[] MASCOTS = {
+            "Tigers", "Hawks", "Bears", "Wolves", "Sharks", "Eagles", "Lions", "Falcons", "Bulls", "Kings",
+            "Rangers", "Pirates", "Giants", "Comets", "Storm", "Thunder", "Rockets", "Titans", "Vikings", "Knights"};
+    private static final SportType[] TYPES = SportType.values();
+    private static final SportEventStatus[] STATUSES = SportEventStatus.values();
+
+    @Param({"1000000"})
+    private int size;
+
+    /**
+     * A single letter, which the service refuses, prefix only, complete term and prefix, two
+     * complete terms and a prefix.
+     */
+    @Param({"t", "ti", "boston tig", "boston tigers vs den"})
+    private String query;
+
+    private SportEventNameIndex nameIndex;
+
+    private List<String> terms;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var sportEventIndex = new SportEventIndex(null);
+        nameIndex = new SportEventNameIndex(null, sportEventIndex);
+        var random = new SplittableRandom(size);
+        for (long id = 1; id <= size; id++) {
+            var name = CITIES[random.nextInt(CITIES.length)] + " " + MASCOTS[random.nextInt(MASCOTS.length)] + " vs "
+                    + CITIES[random.nextInt(CITIES.length)] + " " + MASCOTS[random.nextInt(MASCOTS.length)]
+                    + ", round " + (1 + random.nextInt(38));
+            var created = new SportEventChangedEvent(null, new SportEventDTO(id, name, TYPES[random.nextInt(TYPES.length)],
+                    STATUSES[random.nextInt(STATUSES.length)], LocalDateTime.of(2030, 1, 1, 12, 0), 0L));
+            sportEventIndex.onSportEventChanged(created);
+            nameIndex.onSportEventChanged(created);
+        }
+        terms = SportEventNameIndex.tokenize(query);
+    }
+
+    @Benchmark
+    public List<SportEventDTO> search() {
+        return nameIndex.search(terms, null, null, 0L, 100);
+    }
+
+    @Benchmark
+    public List<SportEventDTO> searchFiltered() {
+        return nameIndex.search(terms, SportType.HOCKEY, SportEventStatus.ACTIVE, 0L, 100);
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.sporteventsapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.sporteventsapi.config.WireFormatConfig;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding a listing page as JSON and as the compact CBOR of {@link WireFormatConfig}, plain and
+ * gzipped at the level Tomcat compresses with. The payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SportEventSerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private ObjectMapper cborMapper;
+
+    private List<SportEventDTO> events;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // Same defaults the MVC message converters are built with
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        cborMapper = WireFormatConfig.compactCborMapper(Jackson2ObjectMapperBuilder.json());
+        // Stored events, as a listing returns them
+        events = new ArrayList<>(size);
+        long id = 1;
+        for (var event : SportEventData.dtos(size)) {
+            events.add(event.toBuilder().id(id++).version(0L).build());
+        }
+
+        System.out.printf("%npayload bytes for %d events: json=%d json+gzip=%d cbor=%d cbor+gzip=%d%n", size,
+                writeList().length, writeListGzip().length, writeListCbor().length, writeListCborGzip().length);
+    }
+
+    @Benchmark
+    public byte[] writeList() throws IOException {
+        return objectMapper.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] writeListGzip() throws IOException {
+        return gzip(objectMapper);
+    }
+
+    @Benchmark
+    public byte[] writeListCbor() throws IOException {
+        return cborMapper.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] writeListCborGzip() throws IOException {
+        return gzip(cborMapper);
+    }
+
+    private byte[] gzip(ObjectMapper mapper) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(bytes)) {
+            mapper.writeValue(gzip, events);
+        }
+        return bytes.toByteArray();
+    }
+}
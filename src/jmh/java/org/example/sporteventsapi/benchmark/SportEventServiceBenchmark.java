@@ -0,0 +1,86 @@
+package org.example.sporteventsapi.benchmark;
+
+import org.example.sporteventsapi.Application;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.dto.SportEventFilter;
+import org.example.sporteventsapi.dto.SportEventPage;
+import org.example.sporteventsapi.model.SportEventSort;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.repository.SportEventRepository;
+import org.example.sporteventsapi.service.SportEventBatchService;
+import org.example.sporteventsapi.service.SportEventService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First page of {@code GET /sport-events} for every filter combination, once through the service
+ * (served by the in-memory index) and once straight from H2, against a generated dataset.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SportEventServiceBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    @Param({"NONE", "TYPE", "STATUS", "TYPE_AND_STATUS"})
+    private String criteria;
+
+    @Param({"100"})
+    private int limit;
+
+    private ConfigurableApplicationContext context;
+
+    private SportEventService service;
+
+    private SportEventRepository repository;
+
+    private SportEventFilter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.devtools.restart.enabled=false",
+                        "--sport-events.lifecycle.enabled=false",
+                        "--sport-events.batch.max-size=" + rows);
+
+        context.getBean(SportEventBatchService.class).createSportEvents(SportEventData.dtos(rows));
+
+        service = context.getBean(SportEventService.class);
+        repository = context.getBean(SportEventRepository.class);
+
+        filter = SportEventFilter.builder()
+                .type(criteria.contains("TYPE") ? SportType.FOOTBALL : null)
+                .status(criteria.contains("STATUS") ? SportEventStatus.ACTIVE : null)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public SportEventPage getSportEvents() {
+        return service.getSportEvents(filter, SportEventSort.ID, null, limit);
+    }
+
+    @Benchmark
+    public List<SportEventDTO> findPageFromDatabase() {
+        return repository.findPage(filter, SportEventSort.ID, null, limit + 1);
+    }
+}
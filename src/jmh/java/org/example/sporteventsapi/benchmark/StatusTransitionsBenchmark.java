@@ -0,0 +1,65 @@
+package org.example.sporteventsapi.benchmark;
+
+import org.example.sporteventsapi.exception.InvalidStatusChangeException;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.service.StatusTransitions;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Status change validation, accepted and rejected, against the cost of building a fresh exception
+ * with a stack trace for every rejection. Run with {@code -prof gc} to see the allocation rate:
+ * {@code -Djmh.args="StatusTransitionsBenchmark -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatusTransitionsBenchmark {
+
+    /**
+     * Allowed, rejected with the default message and rejected with a specific one.
+     */
+    @Param({"INACTIVE:ACTIVE", "FINISHED:ACTIVE", "ACTIVE:ACTIVE"})
+    private String transition;
+
+    private SportEventStatus current;
+
+    private SportEventStatus attempted;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime now;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var statuses = transition.split(":");
+        current = SportEventStatus.valueOf(statuses[0]);
+        attempted = SportEventStatus.valueOf(statuses[1]);
+        now = LocalDateTime.of(2030, 1, 1, 12, 0);
+        startTime = now.plusDays(1);
+    }
+
+    @Benchmark
+    public Object validate() {
+        try {
+            StatusTransitions.validate(current, startTime, attempted, now);
+            return null;
+        } catch (InvalidStatusChangeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object freshRejection() {
+        try {
+            throw new InvalidStatusChangeException(current, attempted);
+        } catch (InvalidStatusChangeException e) {
+            return e;
+        }
+    }
+}
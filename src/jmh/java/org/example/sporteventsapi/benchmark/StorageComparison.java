@@ -0,0 +1,132 @@
+package org.example.sporteventsapi.benchmark;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.sporteventsapi.Application;
+import org.example.sporteventsapi.dto.SportEventFilter;
+import org.example.sporteventsapi.model.SportEventSort;
+import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.repository.SportEventRepository;
+import org.example.sporteventsapi.service.SportEventBatchService;
+import org.example.sporteventsapi.service.SportEventService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup time and listing latency of the in-memory default against the persistent profiles.
+ * Every profile is started twice: empty, then again after {@code rows} events were written, which
+ * shows what a restart costs and whether the data survived it. Between the two starts
+ * {@code queries} listings ordered by start time run against the database.
+ * <p>
+ * Arguments: {@code rows queries profiles}, defaults {@code 20000 5000 default,prod}. Profiles
+ * are comma separated, combine them with {@code +}, e.g. {@code default,prod,prod+postgres}; the
+ * PostgreSQL run reads the {@code DB_*} environment variables and starts from an empty database.
+ */
+public final class StorageComparison {
+
+    private static final int WARMUP_QUERIES = 1_000;
+    private static final SportType[] TYPES = SportType.values();
+
+    private StorageComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        // Devtools would otherwise restart this class with the application arguments
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        var rows = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        var queries = args.length > 1 ? Integer.parseInt(args[1]) : 5_000;
+        var profiles = args.length > 2 ? args[2] : "default,prod";
+
+        // The first start in a JVM also pays for class loading, it would skew whichever profile runs first
+        start(arguments("default")).close();
+
+        var results = new ArrayList<String>();
+        for (var profile : profiles.split(",")) {
+            results.add(run(profile.trim(), rows, queries));
+        }
+
+        System.out.printf("%nrows=%d queries=%d%n", rows, queries);
+        System.out.println("profile          cold start ms  restart ms  rows after restart    p50 us    p99 us  p99.9 us");
+        results.forEach(System.out::println);
+    }
+
+    private static String run(String profile, int rows, int queries) throws IOException {
+        var arguments = arguments(profile);
+
+        var coldStart = System.nanoTime();
+        Timer timer;
+        try (var context = start(arguments)) {
+            coldStart = System.nanoTime() - coldStart;
+            context.getBean(SportEventBatchService.class).createSportEvents(SportEventData.dtos(rows));
+            timer = measure(context.getBean(SportEventService.class), queries);
+        }
+
+        var restart = System.nanoTime();
+        long rowsAfterRestart;
+        try (var context = start(arguments)) {
+            restart = System.nanoTime() - restart;
+            rowsAfterRestart = context.getBean(SportEventRepository.class).count();
+        }
+
+        var percentiles = timer.takeSnapshot().percentileValues();
+        return String.format("%-16s %13d %11d %19d %9.0f %9.0f %9.0f", profile,
+                TimeUnit.NANOSECONDS.toMillis(coldStart), TimeUnit.NANOSECONDS.toMillis(restart), rowsAfterRestart,
+                percentiles[0].value(TimeUnit.MICROSECONDS),
+                percentiles[1].value(TimeUnit.MICROSECONDS),
+                percentiles[2].value(TimeUnit.MICROSECONDS));
+    }
+
+    private static List<String> arguments(String profile) throws IOException {
+        var arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--sport-events.lifecycle.enabled=false",
+                "--sport-events.batch.max-size=" + Integer.MAX_VALUE));
+        if (profile.equals("default")) {
+            // Without DB_CLOSE_DELAY the database goes away with the pool, as it would with the process
+            arguments.add("--spring.datasource.url=jdbc:h2:mem:storage-comparison");
+        } else {
+            arguments.add("--spring.profiles.active=" + profile.replace('+', ','));
+            var directory = Files.createTempDirectory("sport-events-");
+            directory.toFile().deleteOnExit();
+            arguments.add("--SPORT_EVENTS_DB_PATH=" + directory.resolve("sport-events"));
+        }
+        return arguments;
+    }
+
+    private static ConfigurableApplicationContext start(List<String> arguments) {
+        return new SpringApplicationBuilder(Application.class).run(arguments.toArray(String[]::new));
+    }
+
+    private static Timer measure(SportEventService service, int queries) {
+        var from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            list(service, i, from);
+        }
+        var timer = Timer.builder("listing")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(new SimpleMeterRegistry());
+        for (int i = 0; i < queries; i++) {
+            var start = System.nanoTime();
+            list(service, i, from);
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return timer;
+    }
+
+    private static void list(SportEventService service, int i, LocalDateTime from) {
+        var filter = SportEventFilter.builder()
+                .type(TYPES[i % TYPES.length])
+                .from(from.plusDays(i % 300))
+                .build();
+        service.getSportEvents(filter, SportEventSort.START_TIME, null, 50);
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.sporteventsapi.benchmark;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.sporteventsapi.Application;
+import org.example.sporteventsapi.service.SportEventBatchService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load test of {@code GET /sport-events} with the thread-per-request model and with
+ * virtual threads. Each run boots the application on a random port with the same Hikari pool,
+ * seeds it, warms it up and then keeps {@code concurrency} requests in flight for
+ * {@code duration}, reporting throughput and latency percentiles.
+ * <p>
+ * The listings are ordered by start time, so every request goes to the database instead of the
+ * in-memory index. Arguments: {@code concurrency duration-seconds rows tomcat-max-threads},
+ * defaults {@code 400 30 20000 200}. The virtual thread run needs a Java 21 runtime.
+ */
+public final class ThreadingLoadTest {
+
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+
+    private ThreadingLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        // Devtools would otherwise restart this class with the application arguments
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        var concurrency = argument(args, 0, 400);
+        var duration = Duration.ofSeconds(argument(args, 1, 30));
+        var rows = argument(args, 2, 20_000);
+        var tomcatThreads = argument(args, 3, 200);
+
+        var results = new ArrayList<String>();
+        results.add(run(false, concurrency, duration, rows, tomcatThreads));
+        if (Runtime.version().feature() >= 21) {
+            results.add(run(true, concurrency, duration, rows, tomcatThreads));
+        } else {
+            results.add("virtual   skipped, Java 21 is required");
+        }
+
+        System.out.printf("%nconcurrency=%d duration=%s rows=%d tomcat-max-threads=%d%n",
+                concurrency, duration, rows, tomcatThreads);
+        System.out.println("mode      requests/s       p50 ms       p99 ms     p99.9 ms   errors");
+        results.forEach(System.out::println);
+    }
+
+    private static String run(boolean virtualThreads, int concurrency, Duration duration, int rows, int tomcatThreads)
+            throws InterruptedException {
+        try (var context = start(virtualThreads, rows, tomcatThreads)) {
+            var port = context.getEnvironment().getProperty("local.server.port");
+            var uri = URI.create("http://localhost:" + port + "/api/sport-events?sort=START_TIME&limit=50");
+            var client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+            drive(client, uri, concurrency, WARMUP, null, new LongAdder());
+
+            var timer = Timer.builder("load")
+                    .publishPercentiles(0.5, 0.99, 0.999)
+                    .distributionStatisticExpiry(duration.multipliedBy(2))
+                    .register(new SimpleMeterRegistry());
+            var errors = new LongAdder();
+            drive(client, uri, concurrency, duration, timer, errors);
+
+            var snapshot = timer.takeSnapshot();
+            var percentiles = snapshot.percentileValues();
+            return String.format("%-8s %11.0f %12.2f %12.2f %12.2f %8d",
+                    virtualThreads ? "virtual" : "platform",
+                    snapshot.count() / (double) duration.toSeconds(),
+                    percentiles[0].value(TimeUnit.MILLISECONDS),
+                    percentiles[1].value(TimeUnit.MILLISECONDS),
+                    percentiles[2].value(TimeUnit.MILLISECONDS),
+                    errors.sum());
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads, int rows, int tomcatThreads) {
+        var context = new SpringApplicationBuilder(Application.class)
+                .run(
+                        "--server.port=0",
+                        "--server.tomcat.threads.max=" + tomcatThreads,
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + virtualThreads + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--sport-events.lifecycle.enabled=false",
+                        // One client measuring throughput, it must not be throttled or shed
+                        "--sport-events.rate-limit.enabled=false",
+                        "--sport-events.batch.max-size=" + rows);
+        context.getBean(SportEventBatchService.class).createSportEvents(SportEventData.dtos(rows));
+        return context;
+    }
+
+    /**
+     * Keeps {@code concurrency} requests in flight: every completed request immediately starts the next one.
+     */
+    private static void drive(HttpClient client, URI uri, int concurrency, Duration duration, Timer timer,
+                              LongAdder errors) throws InterruptedException {
+        var running = new AtomicBoolean(true);
+        var request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        List<CompletableFuture<Void>> loops = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            var loop = new CompletableFuture<Void>();
+            next(client, request, running, timer, errors, loop);
+            loops.add(loop);
+        }
+        Thread.sleep(duration.toMillis());
+        running.set(false);
+        CompletableFuture.allOf(loops.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private static void next(HttpClient client, HttpRequest request, AtomicBoolean running, Timer timer,
+                             LongAdder errors, CompletableFuture<Void> loop) {
+        if (!running.get()) {
+            loop.complete(null);
+            return;
+        }
+        var start = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+            if (failure != null || response.statusCode() != 200) {
+                errors.increment();
+            } else if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            next(client, request, running, timer, errors, loop);
+        });
+    }
+
+    private static int argument(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.sporteventsapi.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.example.sporteventsapi.config.CacheConfig;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The by-id cache, written only through a version check. A read that missed may load an event
+ * just before a change commits and store it after the change was written through, a plain put
+ * would then keep the older version until it expires. Here the higher version always stays.
+ */
+@Component
+@RequiredArgsConstructor
+public class SportEventCache {
+
+    private final CacheManager cacheManager;
+
+    public SportEventDTO get(Long id) {
+        var cache = cache();
+        return cache == null ? null : cache.get(id, SportEventDTO.class);
+    }
+
+    /**
+     * Stores {@code sportEvent} unless a newer version is cached and returns the version cached
+     * afterwards. Caches that cannot merge atomically drop the entry instead.
+     */
+    public SportEventDTO store(SportEventDTO sportEvent) {
+        var cache = cache();
+        if (cache == null) {
+            return sportEvent;
+        }
+        var entries = entriesOf(cache);
+        if (entries == null) {
+            cache.evict(sportEvent.getId());
+            return sportEvent;
+        }
+        var kept = entries.merge(sportEvent.getId(), sportEvent,
+                (cached, incoming) -> isNewer(sportEvent, cached) ? incoming : cached);
+        return kept instanceof SportEventDTO keptEvent ? keptEvent : sportEvent;
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CacheConfig.SPORT_EVENTS_CACHE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentMap<Object, Object> entriesOf(Cache cache) {
+        var nativeCache = cache.getNativeCache();
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            return ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) caffeine).asMap();
+        }
+        if (nativeCache instanceof ConcurrentMap<?, ?> map) {
+            return (ConcurrentMap<Object, Object>) map;
+        }
+        return null;
+    }
+
+    private static boolean isNewer(SportEventDTO incoming, Object cached) {
+        return !(cached instanceof SportEventDTO existing) || existing.getVersion() == null || incoming.getVersion() == null
+                || incoming.getVersion() > existing.getVersion();
+    }
+}
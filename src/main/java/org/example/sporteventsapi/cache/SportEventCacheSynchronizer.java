@@ -0,0 +1,24 @@
+package org.example.sporteventsapi.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Writes every committed change through to the by-id cache, including the changes of bulk
+ * operations. After-commit listeners of concurrent transactions may run in any order, so an
+ * entry is only replaced by a newer version. Caffeine's admission policy keeps bulk imports from
+ * flushing the hot set.
+ */
+@Component
+@RequiredArgsConstructor
+public class SportEventCacheSynchronizer {
+
+    private final SportEventCache sportEventCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSportEventChanged(SportEventChangedEvent event) {
+        sportEventCache.store(event.getCurrent());
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.sporteventsapi.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caches are backed by Caffeine, size and TTL are set through {@code spring.cache.caffeine.spec}.
+ * Hit, miss and eviction counters are published as {@code cache.*} metrics on the actuator.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String SPORT_EVENTS_CACHE = "sportEvents";
+}
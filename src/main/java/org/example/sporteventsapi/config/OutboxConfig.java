@@ -0,0 +1,23 @@
+package org.example.sporteventsapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.sporteventsapi.outbox.FileSportEventPublisher;
+import org.example.sporteventsapi.outbox.SportEventPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class OutboxConfig {
+
+    /**
+     * The file publisher unless the application defines its own {@link SportEventPublisher}.
+     */
+    @Bean
+    @ConditionalOnMissingBean(SportEventPublisher.class)
+    public FileSportEventPublisher fileSportEventPublisher(ObjectMapper objectMapper, SportEventsProperties properties) {
+        return new FileSportEventPublisher(objectMapper, Path.of(properties.getOutbox().getFile()));
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.sporteventsapi.config;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import org.example.sporteventsapi.ratelimit.LoadShedder;
+import org.example.sporteventsapi.ratelimit.RateLimitInterceptor;
+import org.example.sporteventsapi.ratelimit.RateLimiter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Puts per-client rate limits and load shedding in front of the servlet {@code /sport-events}
+ * routes, actuator endpoints are left alone. Being an MVC configurer it is part of web slice tests,
+ * which do not scan configuration properties, hence the explicit registration.
+ */
+@Configuration
+@AllArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "sport-events.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SportEventsProperties.class)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    @NonNull
+    private SportEventsProperties properties;
+
+    @Bean
+    public RateLimiter rateLimiter() {
+        return new RateLimiter(properties.getRateLimit());
+    }
+
+    /**
+     * Also a meter binder, Spring Boot publishes its limit and in-flight gauges.
+     */
+    @Bean
+    public LoadShedder loadShedder() {
+        return new LoadShedder(properties.getRateLimit().getShedding());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter(), loadShedder(), properties.getRateLimit()))
+                .addPathPatterns("/sport-events", "/sport-events/**");
+    }
+}
@@ -0,0 +1,302 @@
+package org.example.sporteventsapi.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sport-events")
+public class SportEventsProperties {
+
+    private Pagination pagination = new Pagination();
+
+    private Batch batch = new Batch();
+
+    private StatusChange statusChange = new StatusChange();
+
+    private Lifecycle lifecycle = new Lifecycle();
+
+    private Feed feed = new Feed();
+
+    private Idempotency idempotency = new Idempotency();
+
+    private RateLimit rateLimit = new RateLimit();
+
+    private History history = new History();
+
+    private Outbox outbox = new Outbox();
+
+    private Search search = new Search();
+
+    @Data
+    public static class Pagination {
+        /**
+         * Page size used when the client does not pass a limit.
+         */
+        private int defaultLimit = 100;
+
+        /**
+         * Upper bound for a client-supplied limit, larger values are clamped.
+         */
+        private int maxLimit = 1000;
+    }
+
+    @Data
+    public static class Batch {
+        /**
+         * Number of events inserted per transaction, should be a multiple of the JDBC batch size.
+         */
+        private int chunkSize = 500;
+
+        /**
+         * Largest number of events accepted by one batch request.
+         */
+        private int maxSize = 50_000;
+    }
+
+    @Data
+    public static class StatusChange {
+        /**
+         * Attempts of an optimistic status change before a conflict is reported to the client.
+         */
+        private int maxAttempts = 3;
+    }
+
+    @Data
+    public static class Lifecycle {
+        /**
+         * Whether statuses are moved automatically based on the event start time.
+         */
+        private boolean enabled = true;
+
+        /**
+         * How long before its start an INACTIVE event is activated, {@code null} disables activation.
+         */
+        private Duration activateBefore = Duration.ofMinutes(5);
+
+        /**
+         * How long after its start an ACTIVE event is finished, {@code null} disables finishing.
+         */
+        private Duration finishAfter = Duration.ofHours(3);
+
+        /**
+         * Transitions applied per transaction, kept small so one tick never holds long row locks.
+         */
+        private int chunkSize = 500;
+
+        /**
+         * Delay before a failed transition is tried again, doubled on every further failure.
+         */
+        private Duration retryBackoff = Duration.ofSeconds(5);
+
+        /**
+         * Upper bound for the delay between two attempts of a failing transition.
+         */
+        private Duration maxRetryBackoff = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class Feed {
+        /**
+         * Changes buffered per subscriber, the oldest ones are dropped when a client falls behind.
+         */
+        private int bufferSize = 256;
+
+        /**
+         * Threads writing to subscribers, shared by all connections.
+         */
+        private int senderThreads = 4;
+
+        /**
+         * Lifetime of one subscription, clients are expected to reconnect afterwards.
+         */
+        private Duration timeout = Duration.ofMinutes(30);
+
+        /**
+         * Interval of the keep-alive comments sent to idle subscribers.
+         */
+        private Duration heartbeat = Duration.ofSeconds(15);
+
+        /**
+         * Longest a single write to a subscriber may block before the subscriber is closed,
+         * checked on every heartbeat.
+         */
+        private Duration writeTimeout = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Idempotency {
+        /**
+         * Idempotency keys remembered at most, beyond that Caffeine evicts keys by its size policy.
+         */
+        private int maxKeys = 100_000;
+
+        /**
+         * How long a key is remembered after its request completed, retries after that create a new event.
+         */
+        private Duration ttl = Duration.ofHours(24);
+    }
+
+    @Data
+    public static class RateLimit {
+        /**
+         * Whether per-client budgets and load shedding guard the {@code /sport-events} routes.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Header carrying the API key of a client, requests without it are limited by remote address.
+         */
+        private String apiKeyHeader = "X-Api-Key";
+
+        /**
+         * Clients tracked at once, the least recently seen are forgotten first.
+         */
+        private int maxClients = 100_000;
+
+        /**
+         * Idle time after which the budgets of a client are dropped, longer than any bucket takes to refill.
+         */
+        private Duration idleTimeout = Duration.ofMinutes(10);
+
+        /**
+         * NDJSON streams and the status replay, which run through every matching row.
+         */
+        private Budget stream = new Budget(1, 3);
+
+        /**
+         * Listings without type, status or time range.
+         */
+        private Budget unfilteredList = new Budget(2, 10);
+
+        /**
+         * Listings narrowed by a time range only, a range scan of the start time index.
+         */
+        private Budget timeRange = new Budget(5, 20);
+
+        private Budget filteredList = new Budget(20, 50);
+
+        private Budget byId = new Budget(100, 200);
+
+        /**
+         * Creates, batches and status changes.
+         */
+        private Budget write = new Budget(10, 20);
+
+        private Shedding shedding = new Shedding();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Budget {
+        /**
+         * Sustained rate at which a client's bucket refills.
+         */
+        private double permitsPerSecond;
+
+        /**
+         * Bucket capacity, the number of requests a client may send at once after being idle.
+         */
+        private int burst;
+    }
+
+    @Data
+    public static class Shedding {
+        /**
+         * Whether the concurrency limit adapts to latency, otherwise only the per-client budgets apply.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Request latency above which the concurrency limit is lowered.
+         */
+        private Duration latencyTarget = Duration.ofMillis(250);
+
+        /**
+         * Concurrent requests admitted while latency stays below the target.
+         */
+        private int maxConcurrency = 200;
+
+        /**
+         * Floor of the concurrency limit, however slow requests get.
+         */
+        private int minConcurrency = 10;
+
+        /**
+         * Factor applied to the limit once per latency target while requests are slow.
+         */
+        private double backoffRatio = 0.9;
+    }
+
+    @Data
+    public static class History {
+        /**
+         * Rows inserted per JDBC batch, by a transaction changing many events and by a snapshot.
+         */
+        private int batchSize = 500;
+
+        /**
+         * Interval between two snapshots of the replayed statuses, a replay reads the log after the
+         * latest snapshot only.
+         */
+        private Duration snapshotInterval = Duration.ofHours(1);
+
+        /**
+         * How far a snapshot stays behind the present, longer than any transaction that changes
+         * statuses may take to commit.
+         */
+        private Duration snapshotDelay = Duration.ofMinutes(1);
+
+        /**
+         * Snapshots kept, replays before the oldest one read the log from its start.
+         */
+        private int snapshotsKept = 24;
+    }
+
+    @Data
+    public static class Search {
+        /**
+         * Shortest prefix accepted when it is the only term, shorter ones match most of the names.
+         */
+        private int minPrefixLength = 2;
+
+        /**
+         * Tokens a lone prefix may expand to, every one adds a posting set to merge per page.
+         */
+        private int maxPrefixTokens = 500;
+    }
+
+    @Data
+    public static class Outbox {
+        /**
+         * Whether this instance relays the outbox to the publisher. Several relays may run at
+         * once, they take turns on the oldest rows.
+         */
+        private boolean relayEnabled = true;
+
+        /**
+         * Messages read, published and deleted per relay transaction.
+         */
+        private int batchSize = 500;
+
+        /**
+         * Batches relayed per run at most, a large backlog is worked off over several runs so a
+         * run never holds its scheduler thread for long.
+         */
+        private int maxBatchesPerRun = 20;
+
+        /**
+         * Delay between relay runs, the usual delivery lag.
+         */
+        private Duration pollInterval = Duration.ofSeconds(1);
+
+        /**
+         * File the default publisher appends the messages to, one JSON document per line.
+         */
+        private String file = "./data/outbox/sport-events.ndjson";
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.sporteventsapi.config;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Compact binary representation served to clients that send {@code Accept: application/cbor},
+ * JSON stays the default. Besides CBOR's binary framing, the encoding drops what JSON repeats
+ * for every event:
+ * <ul>
+ *     <li>an event is an array in the order id, name, sportType, eventStatus, startTime, version
+ *     instead of an object with field names,</li>
+ *     <li>enums are their ordinal, so constants may only ever be appended,</li>
+ *     <li>{@code startTime} is whole epoch seconds, the local time read as UTC.</li>
+ * </ul>
+ * Requests in CBOR are read with the same layout. The WebFlux endpoints of the {@code reactive}
+ * profile stay JSON only, custom WebFlux codecs would take precedence over JSON for requests that
+ * accept any type.
+ */
+@Configuration
+public class WireFormatConfig {
+
+    /**
+     * Replaces the CBOR converter Spring MVC registers by default.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(compactCborMapper(builder));
+    }
+
+    /**
+     * Builds the CBOR mapper from the application's Jackson settings.
+     */
+    public static ObjectMapper compactCborMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder
+                .factory(new CBORFactory())
+                .featuresToEnable(SerializationFeature.WRITE_ENUMS_USING_INDEX)
+                .serializerByType(LocalDateTime.class, new EpochSecondsSerializer())
+                .deserializerByType(LocalDateTime.class, new EpochSecondsDeserializer())
+                .mixIn(SportEventDTO.class, CompactSportEvent.class)
+                .build();
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"id", "name", "sportType", "eventStatus", "startTime", "version"})
+    private abstract static class CompactSportEvent {
+    }
+
+    private static final class EpochSecondsSerializer extends StdSerializer<LocalDateTime> {
+
+        private EpochSecondsSerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeNumber(value.toEpochSecond(ZoneOffset.UTC));
+        }
+    }
+
+    private static final class EpochSecondsDeserializer extends StdDeserializer<LocalDateTime> {
+
+        private EpochSecondsDeserializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return LocalDateTime.ofEpochSecond(parser.getLongValue(), 0, ZoneOffset.UTC);
+        }
+    }
+}
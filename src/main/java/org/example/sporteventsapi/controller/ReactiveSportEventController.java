@@ -0,0 +1,96 @@
+package org.example.sporteventsapi.controller;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.dto.SportEventFilter;
+import org.example.sporteventsapi.idempotency.IdempotencyStore;
+import org.example.sporteventsapi.model.SportEventSort;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.service.ReactiveSportEventService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * WebFlux counterpart of {@link SportEventController}, served by the {@code reactive} profile on
+ * the same paths.
+ */
+@RestController
+@Profile("reactive")
+@AllArgsConstructor
+@RequestMapping("/sport-events")
+public class ReactiveSportEventController {
+
+    @NonNull
+    private ReactiveSportEventService service;
+
+    @NonNull
+    private IdempotencyStore idempotencyStore;
+
+    @GetMapping
+    public Mono<ResponseEntity<List<SportEventDTO>>> getSportEvents(@RequestParam(required = false) SportType type,
+                                                                    @RequestParam(required = false) SportEventStatus status,
+                                                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                                    @RequestParam(required = false) SportEventSort sort,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(required = false) Integer limit) {
+        var filter = SportEventFilter.builder().type(type).status(status).from(from).to(to).build();
+        return service.getSportEvents(filter, sort, cursor, limit).map(page -> {
+            var response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header(SportEventController.NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getItems());
+        });
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<SportEventDTO> streamSportEvents(@RequestParam(required = false) SportType type,
+                                                 @RequestParam(required = false) SportEventStatus status) {
+        return service.streamSportEvents(type, status);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<SportEventDTO> getSportEventById(@PathVariable Long id) {
+        return service.getSportEventById(id);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<SportEventDTO>> createSportEvent(@Validated @RequestBody SportEventDTO sportEventDTO,
+                                                                @RequestHeader(name = IdempotencyStore.KEY_HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return service.createSportEvent(sportEventDTO).map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+        }
+        return Mono.defer(() -> {
+            var claim = idempotencyStore.claim(idempotencyKey, sportEventDTO);
+            // Waiters must not cancel the shared result, an abandoned claim releases the key
+            var created = claim.isOwner()
+                    ? service.createSportEvent(sportEventDTO)
+                    .doOnSuccess(claim::complete)
+                    .doOnError(claim::fail)
+                    .doOnCancel(() -> claim.fail(new CancellationException("Request was cancelled")))
+                    : Mono.fromFuture(claim.result(), true);
+            return created.map(sportEvent -> ResponseEntity.status(HttpStatus.CREATED)
+                    .header(IdempotencyStore.REPLAYED_HEADER, String.valueOf(!claim.isOwner()))
+                    .body(sportEvent));
+        });
+    }
+
+    @PatchMapping("/{id}/status")
+    public Mono<SportEventDTO> updateEventStatus(@PathVariable Long id, @RequestParam SportEventStatus newStatus) {
+        return service.changeEventStatus(id, newStatus);
+    }
+}
@@ -1,40 +1,149 @@
 package org.example.sporteventsapi.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
+import org.example.sporteventsapi.dto.SportEventBatchResult;
 import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.dto.SportEventFilter;
+import org.example.sporteventsapi.dto.SportEventStatusChangeDTO;
+import org.example.sporteventsapi.dto.SportEventStatusChangeRequest;
+import org.example.sporteventsapi.dto.SportEventStatusChangeResult;
+import org.example.sporteventsapi.idempotency.IdempotencyStore;
+import org.example.sporteventsapi.model.SportEventSort;
 import org.example.sporteventsapi.model.SportEventStatus;
 import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.service.SportEventBatchService;
+import org.example.sporteventsapi.service.SportEventHistoryService;
 import org.example.sporteventsapi.service.SportEventService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 @RestController
+@Profile("!reactive")
 @AllArgsConstructor
 @RequestMapping("/sport-events")
 public class SportEventController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @NonNull
     private SportEventService service;
 
+    @NonNull
+    private SportEventBatchService batchService;
+
+    @NonNull
+    private ObjectMapper objectMapper;
+
+    @NonNull
+    private IdempotencyStore idempotencyStore;
+
+    @NonNull
+    private SportEventHistoryService historyService;
+
     @GetMapping
     public ResponseEntity<List<SportEventDTO>> getSportEvents(@RequestParam(required = false) SportType type,
-                                                              @RequestParam(required = false) SportEventStatus status) {
-        return ResponseEntity.ok(service.getSportEvents(type, status));
+                                                              @RequestParam(required = false) SportEventStatus status,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                              @RequestParam(required = false) SportEventSort sort,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(required = false) Integer limit,
+                                                              WebRequest request) {
+        var filter = SportEventFilter.builder().type(type).status(status).from(from).to(to).build();
+        var eTag = service.getSportEventsETag(filter, sort, cursor, limit);
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
+        var page = service.getSportEvents(filter, sort, cursor, limit);
+        var response = ResponseEntity.ok().eTag(eTag);
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSportEvents(@RequestParam(required = false) SportType type,
+                                                                   @RequestParam(required = false) SportEventStatus status) {
+        return this.<SportEventDTO>ndjson(consumer -> service.streamSportEvents(type, status, consumer));
+    }
+
+    /**
+     * The status of every event as of {@code at}, default now, rebuilt from the status log: one
+     * line per event with its last change.
+     */
+    @GetMapping(value = "/history", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> replayStatuses(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return this.<SportEventStatusChangeDTO>ndjson(consumer -> historyService.replay(at, consumer));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<SportEventDTO>> searchSportEvents(@RequestParam String q,
+                                                                 @RequestParam(required = false) SportType type,
+                                                                 @RequestParam(required = false) SportEventStatus status,
+                                                                 @RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer limit) {
+        var page = service.searchSportEvents(q, type, status, cursor, limit);
+        var response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<SportEventDTO> getSportEventById(@PathVariable Long id) {
-        return ResponseEntity.ok(service.getSportEventById(id));
+    public ResponseEntity<SportEventDTO> getSportEventById(@PathVariable Long id, WebRequest request) {
+        var eTag = service.getSportEventETag(id);
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
+        var sportEvent = service.getSportEventById(id);
+        return ResponseEntity.ok().eTag(SportEventService.eTagOf(sportEvent)).body(sportEvent);
+    }
+
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<SportEventStatusChangeDTO>> getSportEventHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(historyService.getHistory(id));
     }
 
     @PostMapping
-    public ResponseEntity<SportEventDTO> createSportEvent(@Validated @RequestBody SportEventDTO sportEventDTO) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(this.service.createSportEvent(sportEventDTO));
+    public ResponseEntity<SportEventDTO> createSportEvent(@Validated @RequestBody SportEventDTO sportEventDTO,
+                                                          @RequestHeader(name = IdempotencyStore.KEY_HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(this.service.createSportEvent(sportEventDTO));
+        }
+        var outcome = idempotencyStore.execute(idempotencyKey, sportEventDTO, () -> service.createSportEvent(sportEventDTO));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IdempotencyStore.REPLAYED_HEADER, String.valueOf(outcome.replayed()))
+                .body(outcome.sportEvent());
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<SportEventBatchResult> createSportEvents(@RequestBody List<SportEventDTO> sportEvents) {
+        var result = batchService.createSportEvents(sportEvents);
+        var status = result.getErrors().isEmpty() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(result);
+    }
+
+    @PatchMapping("/status")
+    public ResponseEntity<SportEventStatusChangeResult> updateEventStatuses(
+            @Validated @RequestBody SportEventStatusChangeRequest request) {
+        return ResponseEntity.ok(batchService.changeEventStatuses(request));
     }
 
     @PatchMapping("/{id}/status")
@@ -42,4 +151,24 @@ public class SportEventController {
             @PathVariable Long id, @Validated @RequestParam SportEventStatus newStatus) {
         return ResponseEntity.ok(service.changeEventStatus(id, newStatus));
     }
+
+    /**
+     * Streams the items {@code source} produces as newline-delimited JSON while they are read.
+     */
+    private <T> ResponseEntity<StreamingResponseBody> ndjson(Consumer<Consumer<T>> source) {
+        StreamingResponseBody body = outputStream -> {
+            try (var generator = objectMapper.createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                source.accept(item -> {
+                    try {
+                        generator.writeObject(item);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 }
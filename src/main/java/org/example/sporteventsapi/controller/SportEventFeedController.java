@@ -0,0 +1,30 @@
+package org.example.sporteventsapi.controller;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import org.example.sporteventsapi.feed.SportEventFeed;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@Profile("!reactive")
+@AllArgsConstructor
+@RequestMapping("/sport-events")
+public class SportEventFeedController {
+
+    @NonNull
+    private SportEventFeed feed;
+
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestParam(required = false) SportType type,
+                                @RequestParam(required = false) SportEventStatus status) {
+        return feed.subscribe(type, status);
+    }
+}
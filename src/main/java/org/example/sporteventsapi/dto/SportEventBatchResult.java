@@ -0,0 +1,22 @@
+package org.example.sporteventsapi.dto;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a batch request. Every rejected item is reported with its position in the request.
+ */
+@Value
+public class SportEventBatchResult {
+    List<SportEventDTO> created;
+    List<ItemError> errors;
+
+    @Value
+    public static class ItemError {
+        int index;
+        String detail;
+        List<Map<String, String>> errors;
+    }
+}
@@ -15,7 +15,7 @@ import org.example.sporteventsapi.validator.ValidEnum;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class SportEventDTO {
@@ -36,6 +36,9 @@ public class SportEventDTO {
 
     @NotNull(message = "StartTime must not be null")
     LocalDateTime startTime;
+
+    @Null(message = "Version must be null when creating a new sport event")
+    Long version;
 }
 
 
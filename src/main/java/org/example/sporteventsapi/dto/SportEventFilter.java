@@ -0,0 +1,30 @@
+package org.example.sporteventsapi.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional criteria of a sport event listing, {@code null} fields do not restrict the result.
+ * The time range is half-open: {@code from <= startTime < to}.
+ */
+@Value
+@Builder
+public class SportEventFilter {
+    public static final SportEventFilter NONE = SportEventFilter.builder().build();
+
+    SportType type;
+
+    SportEventStatus status;
+
+    LocalDateTime from;
+
+    LocalDateTime to;
+
+    public boolean hasTimeRange() {
+        return from != null || to != null;
+    }
+}
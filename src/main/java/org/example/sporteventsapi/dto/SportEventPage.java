@@ -0,0 +1,14 @@
+package org.example.sporteventsapi.dto;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * One keyset page of sport events. {@code nextCursor} is {@code null} on the last page.
+ */
+@Value
+public class SportEventPage {
+    List<SportEventDTO> items;
+    String nextCursor;
+}
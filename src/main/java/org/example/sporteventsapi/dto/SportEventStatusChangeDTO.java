@@ -0,0 +1,28 @@
+package org.example.sporteventsapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.sporteventsapi.model.SportEventStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A status transition of one event, {@code fromStatus} is {@code null} for the status it was created with.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SportEventStatusChangeDTO {
+    Long sportEventId;
+
+    SportEventStatus fromStatus;
+
+    SportEventStatus toStatus;
+
+    LocalDateTime changedAt;
+
+    Long version;
+}
@@ -0,0 +1,36 @@
+package org.example.sporteventsapi.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+
+import java.util.List;
+
+/**
+ * Bulk status change. Events are selected either by {@code ids} or by
+ * {@code currentStatus}, optionally narrowed down by {@code sportType}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SportEventStatusChangeRequest {
+    List<Long> ids;
+
+    SportType sportType;
+
+    SportEventStatus currentStatus;
+
+    @NotNull(message = "NewStatus must not be null")
+    SportEventStatus newStatus;
+
+    @AssertTrue(message = "Either ids or currentStatus must be provided")
+    boolean isSelector() {
+        return (ids != null && !ids.isEmpty()) != (currentStatus != null);
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.sporteventsapi.dto;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class SportEventStatusChangeResult {
+    List<SportEventDTO> updated;
+    List<Rejection> rejected;
+
+    @Value
+    public static class Rejection {
+        Long id;
+        String reason;
+    }
+}
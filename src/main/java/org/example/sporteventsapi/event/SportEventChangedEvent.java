@@ -0,0 +1,29 @@
+package org.example.sporteventsapi.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import lombok.With;
+import org.example.sporteventsapi.dto.SportEventDTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by the service layer whenever a sport event is created or changed.
+ * {@code previous} is {@code null} for newly created events. {@code changedAt} is taken when the
+ * event is published, inside the transaction making the change, so it does not depend on when an
+ * after-commit listener gets to run. {@code recorded} is set when the change already wrote its
+ * outbox and history rows in its own transaction, as the {@code reactive} stack does.
+ */
+@Value
+@AllArgsConstructor
+public class SportEventChangedEvent {
+    SportEventDTO previous;
+    SportEventDTO current;
+    LocalDateTime changedAt;
+    @With
+    boolean recorded;
+
+    public SportEventChangedEvent(SportEventDTO previous, SportEventDTO current) {
+        this(previous, current, LocalDateTime.now(), false);
+    }
+}
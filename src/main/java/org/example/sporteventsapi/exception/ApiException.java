@@ -12,4 +12,13 @@ public abstract class ApiException extends RuntimeException {
         this.status = status;
     }
 
+    /**
+     * For instances that are created once and thrown repeatedly: no stack trace is captured and
+     * no suppressed exceptions can be attached, so sharing them across threads is safe.
+     */
+    ApiException(String message, HttpStatus status, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.status = status;
+    }
+
 }
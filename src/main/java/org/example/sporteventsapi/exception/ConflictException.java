@@ -0,0 +1,10 @@
+package org.example.sporteventsapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ConflictException extends ApiException {
+    public ConflictException(String resourceName, Object id) {
+        super(String.format("%s with id '%s' was changed concurrently, please retry", resourceName, id),
+                HttpStatus.CONFLICT);
+    }
+}
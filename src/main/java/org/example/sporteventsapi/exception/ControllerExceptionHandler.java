@@ -1,19 +1,26 @@
 package org.example.sporteventsapi.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ServerWebInputException;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -23,6 +30,14 @@ public class ControllerExceptionHandler {
     private static final String VALIDATION_FAILED_MESSAGE = "Validation Failed!";
     private static final String UNEXPECTED_ERROR_MESSAGE = "An unexpected error occurred!";
     private static final String UNEXPECTED_ERROR_DETAIL = "An unexpected error occurred while processing your request!";
+    private static final String CONFLICT_MESSAGE = "Conflict!";
+    private static final String CONFLICT_DETAIL = "The resource was changed concurrently, please retry!";
+
+    /**
+     * Responses to rejected status changes by message. The messages come from the preallocated
+     * rejections of the transition table, so there are only a handful of them.
+     */
+    private final Map<String, ResponseEntity<Map<String, Object>>> statusChangeResponses = new ConcurrentHashMap<>();
 
     @ExceptionHandler(ApiException.class)
     public ResponseEntity<Map<String, Object>> handleApiException(ApiException exception) {
@@ -31,14 +46,63 @@ public class ControllerExceptionHandler {
         return new ResponseEntity<>(errorResponse, exception.getStatus());
     }
 
+    /**
+     * Rejected status changes are client errors that abusive clients repeat in bulk, they are
+     * logged at debug level and answered with a cached response.
+     */
+    @ExceptionHandler(InvalidStatusChangeException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidStatusChangeException(InvalidStatusChangeException exception) {
+        log.debug("Rejected status change: {}", exception.getMessage());
+        var response = statusChangeResponses.get(exception.getMessage());
+        if (response == null) {
+            var errorResponse = buildErrorResponse(exception.getMessage(), exception.getStatus(), exception.getMessage(), null);
+            response = new ResponseEntity<>(Collections.unmodifiableMap(errorResponse), exception.getStatus());
+            statusChangeResponses.putIfAbsent(exception.getMessage(), response);
+        }
+        return response;
+    }
+
+    /**
+     * Throttled and shed requests are expected under load, they are logged at debug level and
+     * tell the client when to come back.
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleRateLimitExceededException(RateLimitExceededException exception) {
+        return retryLater(exception, exception.getRetryAfterSeconds());
+    }
+
+    @ExceptionHandler(ServerOverloadedException.class)
+    public ResponseEntity<Map<String, Object>> handleServerOverloadedException(ServerOverloadedException exception) {
+        return retryLater(exception, exception.getRetryAfterSeconds());
+    }
+
+    @ExceptionHandler(IndexNotReadyException.class)
+    public ResponseEntity<Map<String, Object>> handleIndexNotReadyException(IndexNotReadyException exception) {
+        return retryLater(exception, IndexNotReadyException.RETRY_AFTER_SECONDS);
+    }
+
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
-        List<Map<String, String>> fieldErrors = ex.getBindingResult().getFieldErrors().stream()
-                .map(error -> Map.of("field", error.getField(), "message", Objects.requireNonNull(error.getDefaultMessage())))
-                .collect(Collectors.toList());
+        return validationFailed(ex.getBindingResult());
+    }
 
-        var errorResponse = buildErrorResponse(VALIDATION_FAILED_MESSAGE, HttpStatus.BAD_REQUEST, "One or more fields are invalid!", fieldErrors);
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Map<String, Object>> handleWebExchangeBindException(WebExchangeBindException ex) {
+        return validationFailed(ex.getBindingResult());
+    }
+
+    /**
+     * Unconvertible parameters and unreadable bodies on the reactive stack.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<Map<String, Object>> handleServerWebInputException(ServerWebInputException exception) {
+        logError(exception);
+        var parameter = exception.getMethodParameter();
+        var title = parameter != null && parameter.getParameterName() != null
+                ? "Invalid value for parameter: " + parameter.getParameterName()
+                : "Invalid Request Body";
+        var errorResponse = buildErrorResponse(title, HttpStatus.BAD_REQUEST, exception.getReason(), null);
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
@@ -54,6 +118,20 @@ public class ControllerExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleConflictException(ConflictException exception) {
+        logError(exception);
+        var errorResponse = buildErrorResponse(CONFLICT_MESSAGE, HttpStatus.CONFLICT, exception.getMessage(), null);
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailure(OptimisticLockingFailureException exception) {
+        logError(exception);
+        var errorResponse = buildErrorResponse(CONFLICT_MESSAGE, HttpStatus.CONFLICT, CONFLICT_DETAIL, null);
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<Map<String, Object>> handleEnumMismatch(MethodArgumentTypeMismatchException exception) {
         logError(exception);
@@ -112,6 +190,23 @@ public class ControllerExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    private ResponseEntity<Map<String, Object>> validationFailed(BindingResult bindingResult) {
+        List<Map<String, String>> fieldErrors = bindingResult.getFieldErrors().stream()
+                .map(error -> Map.of("field", error.getField(), "message", Objects.requireNonNull(error.getDefaultMessage())))
+                .collect(Collectors.toList());
+
+        var errorResponse = buildErrorResponse(VALIDATION_FAILED_MESSAGE, HttpStatus.BAD_REQUEST, "One or more fields are invalid!", fieldErrors);
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    private ResponseEntity<Map<String, Object>> retryLater(ApiException exception, long retryAfterSeconds) {
+        log.debug("Rejected request: {}", exception.getMessage());
+        var errorResponse = buildErrorResponse(exception.getMessage(), exception.getStatus(), exception.getMessage(), null);
+        return ResponseEntity.status(exception.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(errorResponse);
+    }
+
     private void logError(Exception ex) {
         log.error("An error occurred: {}", ex.getMessage(), ex);
     }
@@ -0,0 +1,10 @@
+package org.example.sporteventsapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class IdempotencyKeyReusedException extends ApiException {
+    public IdempotencyKeyReusedException(String key) {
+        super(String.format("Idempotency key '%s' was already used with a different request", key),
+                HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+}
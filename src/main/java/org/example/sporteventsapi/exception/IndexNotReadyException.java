@@ -0,0 +1,11 @@
+package org.example.sporteventsapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class IndexNotReadyException extends ApiException {
+    public static final long RETRY_AFTER_SECONDS = 1;
+
+    public IndexNotReadyException(String indexName) {
+        super(String.format("The %s index is still being built, please retry", indexName), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
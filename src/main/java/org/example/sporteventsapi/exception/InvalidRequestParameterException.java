@@ -0,0 +1,13 @@
+package org.example.sporteventsapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidRequestParameterException extends ApiException {
+    public InvalidRequestParameterException(String parameterName, Object value) {
+        super(String.format("Invalid value '%s' for parameter '%s'", value, parameterName), HttpStatus.BAD_REQUEST);
+    }
+
+    public InvalidRequestParameterException(String parameterName, Object value, String reason) {
+        super(String.format("Invalid value '%s' for parameter '%s': %s", value, parameterName, reason), HttpStatus.BAD_REQUEST);
+    }
+}
@@ -1,14 +1,42 @@
 package org.example.sporteventsapi.exception;
 
+import lombok.Getter;
 import org.example.sporteventsapi.model.SportEventStatus;
 import org.springframework.http.HttpStatus;
 
+@Getter
 public class InvalidStatusChangeException extends ApiException {
+    private final SportEventStatus currentStatus;
+    private final SportEventStatus attemptedStatus;
+
     public InvalidStatusChangeException(SportEventStatus currentStatus, SportEventStatus attemptedStatus) {
-        super(String.format("Invalid status change from '%s' to '%s'", currentStatus, attemptedStatus), HttpStatus.BAD_REQUEST);
+        this(defaultMessage(currentStatus, attemptedStatus), currentStatus, attemptedStatus);
     }
 
-    public InvalidStatusChangeException(String message) {
+    public InvalidStatusChangeException(String message, SportEventStatus currentStatus, SportEventStatus attemptedStatus) {
         super(message, HttpStatus.BAD_REQUEST);
+        this.currentStatus = currentStatus;
+        this.attemptedStatus = attemptedStatus;
+    }
+
+    private InvalidStatusChangeException(String message, SportEventStatus currentStatus, SportEventStatus attemptedStatus,
+                                         boolean writableStackTrace) {
+        super(message, HttpStatus.BAD_REQUEST, writableStackTrace);
+        this.currentStatus = currentStatus;
+        this.attemptedStatus = attemptedStatus;
+    }
+
+    /**
+     * Stackless instance meant to be preallocated and rethrown, a {@code null} message stands
+     * for the default one.
+     */
+    public static InvalidStatusChangeException shared(String message, SportEventStatus currentStatus,
+                                                      SportEventStatus attemptedStatus) {
+        return new InvalidStatusChangeException(message == null ? defaultMessage(currentStatus, attemptedStatus) : message,
+                currentStatus, attemptedStatus, false);
+    }
+
+    private static String defaultMessage(SportEventStatus currentStatus, SportEventStatus attemptedStatus) {
+        return String.format("Invalid status change from '%s' to '%s'", currentStatus, attemptedStatus);
     }
 }
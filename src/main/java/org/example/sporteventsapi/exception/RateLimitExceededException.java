@@ -0,0 +1,19 @@
+package org.example.sporteventsapi.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * A client used up its budget for a route. Thrown for every request over the limit, so it
+ * captures no stack trace.
+ */
+@Getter
+public class RateLimitExceededException extends ApiException {
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(String.format("Too many requests, retry after %d seconds", retryAfterSeconds),
+                HttpStatus.TOO_MANY_REQUESTS, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.sporteventsapi.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * The server sheds a request because latency is above its target. Thrown for every shed request,
+ * so it captures no stack trace.
+ */
+@Getter
+public class ServerOverloadedException extends ApiException {
+    private final long retryAfterSeconds;
+
+    public ServerOverloadedException(long retryAfterSeconds) {
+        super(String.format("Server is overloaded, retry after %d seconds", retryAfterSeconds),
+                HttpStatus.SERVICE_UNAVAILABLE, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
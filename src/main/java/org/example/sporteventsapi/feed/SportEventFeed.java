@@ -0,0 +1,207 @@
+package org.example.sporteventsapi.feed;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes committed sport event changes to Server-Sent Events subscribers.
+ * <p>
+ * Publishing never blocks: every subscriber has its own bounded buffer, and a shared pool of
+ * sender threads drains it. A subscriber that falls behind loses its oldest buffered changes
+ * and gets an {@code overflow} event with the number of dropped changes so it can resync.
+ * Heartbeats go through the same senders, and a subscriber whose write has not completed within
+ * the write timeout is closed when the next heartbeat finds it, which also fails the stuck write
+ * and frees its sender.
+ */
+@Slf4j
+@Component
+public class SportEventFeed {
+
+    static final String CREATED_EVENT = "created";
+    static final String STATUS_CHANGED_EVENT = "status-changed";
+    static final String OVERFLOW_EVENT = "overflow";
+
+    private final Set<Subscription> subscriptions = new CopyOnWriteArraySet<>();
+    private final SportEventsProperties.Feed properties;
+    private final Executor senders;
+
+    @Autowired
+    public SportEventFeed(SportEventsProperties properties, Environment environment) {
+        this(properties, Threading.VIRTUAL.isActive(environment));
+    }
+
+    /**
+     * With virtual threads every drain gets its own thread, so a subscriber stuck on a slow socket
+     * no longer holds one of the few shared senders.
+     */
+    SportEventFeed(SportEventsProperties properties, boolean virtualThreads) {
+        this.properties = properties.getFeed();
+        this.senders = virtualThreads
+                ? new VirtualThreadTaskExecutor("sport-event-feed-")
+                : Executors.newFixedThreadPool(this.properties.getSenderThreads(), runnable -> {
+                    var thread = new Thread(runnable, "sport-event-feed");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public SseEmitter subscribe(SportType type, SportEventStatus status) {
+        return subscribe(type, status, new SseEmitter(properties.getTimeout().toMillis()));
+    }
+
+    SseEmitter subscribe(SportType type, SportEventStatus status, SseEmitter emitter) {
+        var subscription = new Subscription(type, status, emitter, new ArrayBlockingQueue<>(properties.getBufferSize()));
+        subscriptions.add(subscription);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+        return emitter;
+    }
+
+    int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSportEventChanged(SportEventChangedEvent event) {
+        var current = event.getCurrent();
+        var name = event.getPrevious() == null ? CREATED_EVENT : STATUS_CHANGED_EVENT;
+        for (var subscription : subscriptions) {
+            if (subscription.matches(event)) {
+                subscription.offer(new Change(name, current));
+                if (subscription.draining.compareAndSet(false, true)) {
+                    senders.execute(() -> drain(subscription));
+                }
+            }
+        }
+    }
+
+    /**
+     * Comment lines keep proxies from closing idle connections and reveal clients that went away.
+     * Only idle subscribers get one, and it is written by a sender like any change, so the
+     * scheduler thread never blocks on a socket.
+     */
+    @Scheduled(fixedDelayString = "${sport-events.feed.heartbeat:PT15S}")
+    public void heartbeat() {
+        var now = System.nanoTime();
+        for (var subscription : subscriptions) {
+            var sendingSince = subscription.sendingSince.get();
+            if (sendingSince != 0 && now - sendingSince > properties.getWriteTimeout().toNanos()) {
+                log.debug("Dropping feed subscriber: write timed out");
+                subscriptions.remove(subscription);
+                subscription.emitter.completeWithError(new IOException("Write timed out"));
+            } else if (subscription.draining.compareAndSet(false, true)) {
+                senders.execute(() -> {
+                    if (send(subscription, SseEmitter.event().comment("heartbeat"))) {
+                        drain(subscription);
+                    }
+                });
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (senders instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+    }
+
+    private void drain(Subscription subscription) {
+        while (true) {
+            var dropped = subscription.dropped.getAndSet(0);
+            if (dropped > 0 && !send(subscription, SseEmitter.event().name(OVERFLOW_EVENT).data(Map.of("dropped", dropped)))) {
+                return;
+            }
+            var change = subscription.buffer.poll();
+            if (change == null) {
+                subscription.draining.set(false);
+                if ((subscription.buffer.isEmpty() && subscription.dropped.get() == 0)
+                        || !subscription.draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            var event = SseEmitter.event()
+                    .name(change.name())
+                    .id(String.valueOf(change.sportEvent().getId()))
+                    .data(change.sportEvent());
+            if (!send(subscription, event)) {
+                return;
+            }
+        }
+    }
+
+    private boolean send(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        subscription.sendingSince.set(System.nanoTime());
+        try {
+            subscription.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping feed subscriber: {}", e.getMessage());
+            subscriptions.remove(subscription);
+            subscription.emitter.completeWithError(e);
+            return false;
+        } finally {
+            subscription.sendingSince.set(0);
+        }
+    }
+
+    private record Change(String name, SportEventDTO sportEvent) {
+    }
+
+    private record Subscription(SportType type, SportEventStatus status, SseEmitter emitter,
+                                ArrayBlockingQueue<Change> buffer, AtomicBoolean draining, AtomicLong dropped,
+                                AtomicLong sendingSince) {
+
+        Subscription(SportType type, SportEventStatus status, SseEmitter emitter, ArrayBlockingQueue<Change> buffer) {
+            this(type, status, emitter, buffer, new AtomicBoolean(), new AtomicLong(), new AtomicLong());
+        }
+
+        /**
+         * A change is delivered when the event enters, stays in or leaves the filter, so
+         * subscribers also learn about events that no longer match.
+         */
+        boolean matches(SportEventChangedEvent event) {
+            return (event.getPrevious() != null && matches(event.getPrevious())) || matches(event.getCurrent());
+        }
+
+        boolean matches(SportEventDTO sportEvent) {
+            return (type == null || type == sportEvent.getSportType())
+                    && (status == null || status == sportEvent.getEventStatus());
+        }
+
+        void offer(Change change) {
+            while (!buffer.offer(change)) {
+                if (buffer.poll() != null) {
+                    dropped.incrementAndGet();
+                }
+            }
+        }
+    }
+}
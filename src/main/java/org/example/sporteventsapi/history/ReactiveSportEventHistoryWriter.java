@@ -0,0 +1,39 @@
+package org.example.sporteventsapi.history;
+
+import lombok.RequiredArgsConstructor;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link SportEventHistoryWriter} for the R2DBC writes of the {@code reactive} profile. Callers
+ * subscribe to {@link #record} within the {@code TransactionalOperator} of the change, so the row
+ * commits or rolls back with it, and publish the event with {@code recorded} set afterwards.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveSportEventHistoryWriter {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Void> record(SportEventChangedEvent event) {
+        var change = SportEventHistoryWriter.changeOf(event);
+        if (change == null) {
+            return Mono.empty();
+        }
+        var spec = databaseClient.sql("""
+                        insert into sport_event_status_changes (sport_event_id, from_status, to_status, changed_at, version)
+                        values (:sportEventId, :fromStatus, :toStatus, :changedAt, :version)""")
+                .bind("sportEventId", change.getSportEventId())
+                .bind("toStatus", change.getToStatus().name())
+                .bind("changedAt", change.getChangedAt())
+                .bind("version", change.getVersion());
+        spec = change.getFromStatus() == null
+                ? spec.bindNull("fromStatus", String.class)
+                : spec.bind("fromStatus", change.getFromStatus().name());
+        return spec.fetch().rowsUpdated().then();
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.sporteventsapi.history;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.example.sporteventsapi.dto.SportEventStatusChangeDTO;
+import org.example.sporteventsapi.service.SportEventHistoryService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+/**
+ * Periodically stores the replayed status of every event as a snapshot. Each snapshot is itself
+ * replayed from the previous one and the log after it, so taking one reads a single interval of
+ * the log. Snapshots stay {@code sport-events.history.snapshot-delay} behind the present: a change
+ * is logged with the time it was made, which can be a little before its transaction commits.
+ */
+@Slf4j
+@Component
+public class SportEventHistorySnapshotter {
+
+    private final SportEventHistoryService historyService;
+    private final SportEventStatusSnapshots snapshots;
+    private final TransactionTemplate transactionTemplate;
+    private final SportEventsProperties.History properties;
+
+    public SportEventHistorySnapshotter(SportEventHistoryService historyService, SportEventStatusSnapshots snapshots,
+                                        TransactionTemplate transactionTemplate, SportEventsProperties properties) {
+        this.historyService = historyService;
+        this.snapshots = snapshots;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties.getHistory();
+    }
+
+    @Scheduled(fixedDelayString = "${sport-events.history.snapshot-interval:PT1H}")
+    public void snapshot() {
+        takeSnapshot(LocalDateTime.now().minus(properties.getSnapshotDelay()));
+    }
+
+    /**
+     * Stores the status of every event as of {@code takenAt} and drops the snapshots beyond
+     * {@code sport-events.history.snapshots-kept}, all in one transaction. Does nothing when a
+     * snapshot at or after {@code takenAt} already exists.
+     */
+    public void takeSnapshot(LocalDateTime takenAt) {
+        var batchSize = properties.getBatchSize();
+        var events = transactionTemplate.execute(status -> {
+            if (snapshots.latest().filter(latest -> !latest.isBefore(takenAt)).isPresent()) {
+                return -1;
+            }
+            var batch = new ArrayList<SportEventStatusChangeDTO>(batchSize);
+            var count = new int[1];
+            historyService.replay(takenAt, change -> {
+                batch.add(change);
+                count[0]++;
+                if (batch.size() == batchSize) {
+                    snapshots.insert(takenAt, batch);
+                    batch.clear();
+                }
+            });
+            if (!batch.isEmpty()) {
+                snapshots.insert(takenAt, batch);
+            }
+            snapshots.deleteAllButLatest(properties.getSnapshotsKept());
+            return count[0];
+        });
+        if (events != null && events >= 0) {
+            log.info("Status snapshot of {} events taken at {}", events, takenAt);
+        }
+    }
+}
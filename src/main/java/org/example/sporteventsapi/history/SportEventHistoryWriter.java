@@ -0,0 +1,101 @@
+package org.example.sporteventsapi.history;
+
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.example.sporteventsapi.dto.SportEventStatusChangeDTO;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Appends every status change to the {@code sport_event_status_changes} log within the
+ * transaction making it, so the log holds a change if and only if it commits. As in
+ * {@link org.example.sporteventsapi.outbox.SportEventOutbox}, the rows of one transaction are
+ * collected while it runs and inserted in JDBC batches of {@code sport-events.history.batch-size}
+ * just before it commits.
+ * <p>
+ * A change is logged with the time its transaction made it. Status changes of one event are
+ * guarded by its version, each one reads the state the previous one committed, so its time and
+ * version both increase along the history of an event. The R2DBC writes of the {@code reactive}
+ * profile log their changes through {@link ReactiveSportEventHistoryWriter} and are skipped here.
+ */
+@Component
+public class SportEventHistoryWriter {
+
+    static final String INSERT = """
+            insert into sport_event_status_changes (sport_event_id, from_status, to_status, changed_at, version)
+            values (?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public SportEventHistoryWriter(JdbcTemplate jdbcTemplate, SportEventsProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = properties.getHistory().getBatchSize();
+    }
+
+    /**
+     * A plain listener: it runs while the publishing transaction is still open.
+     */
+    @EventListener
+    public void onSportEventChanged(SportEventChangedEvent event) {
+        var change = changeOf(event);
+        if (change == null || event.isRecorded()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Sport event " + change.getSportEventId()
+                    + " was changed outside of a transaction, its history row would not be atomic with the change");
+        }
+        pendingRows().add(new Object[]{
+                change.getSportEventId(),
+                change.getFromStatus() == null ? null : change.getFromStatus().name(),
+                change.getToStatus().name(),
+                change.getChangedAt(),
+                change.getVersion()});
+    }
+
+    /**
+     * The log entry of a change, {@code null} when it leaves the status as it was.
+     */
+    static SportEventStatusChangeDTO changeOf(SportEventChangedEvent event) {
+        var previous = event.getPrevious();
+        var current = event.getCurrent();
+        var fromStatus = previous == null ? null : previous.getEventStatus();
+        if (current.getId() == null || current.getEventStatus() == null
+                || previous != null && fromStatus == current.getEventStatus()) {
+            return null;
+        }
+        return new SportEventStatusChangeDTO(current.getId(), fromStatus, current.getEventStatus(),
+                event.getChangedAt(), current.getVersion());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> pendingRows() {
+        var rows = (List<Object[]>) TransactionSynchronizationManager.getResource(this);
+        if (rows == null) {
+            var bound = new ArrayList<Object[]>();
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    for (int from = 0; from < bound.size(); from += batchSize) {
+                        jdbcTemplate.batchUpdate(INSERT, bound.subList(from, Math.min(from + batchSize, bound.size())));
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(SportEventHistoryWriter.this);
+                }
+            });
+            rows = bound;
+        }
+        return rows;
+    }
+}
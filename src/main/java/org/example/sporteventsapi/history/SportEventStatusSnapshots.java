@@ -0,0 +1,96 @@
+package org.example.sporteventsapi.history;
+
+import lombok.RequiredArgsConstructor;
+import org.example.sporteventsapi.dto.SportEventStatusChangeDTO;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * The {@code sport_event_status_snapshots} table: the last change of every event as of the time a
+ * snapshot was taken, so a replay only reads the log written after it.
+ */
+@Component
+@RequiredArgsConstructor
+public class SportEventStatusSnapshots {
+
+    static final String INSERT = """
+            insert into sport_event_status_snapshots (taken_at, sport_event_id, from_status, to_status, changed_at, version)
+            values (?, ?, ?, ?, ?, ?)""";
+
+    private static final RowMapper<SportEventStatusChangeDTO> CHANGE_MAPPER = (resultSet, rowNumber) ->
+            new SportEventStatusChangeDTO(
+                    resultSet.getLong("sport_event_id"),
+                    statusOf(resultSet.getString("from_status")),
+                    statusOf(resultSet.getString("to_status")),
+                    resultSet.getObject("changed_at", LocalDateTime.class),
+                    resultSet.getLong("version"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Time of the latest snapshot, empty when there is none.
+     */
+    public Optional<LocalDateTime> latest() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(
+                "select max(taken_at) from sport_event_status_snapshots", LocalDateTime.class));
+    }
+
+    /**
+     * Time of the latest snapshot taken at or before {@code at}, empty when there is none.
+     */
+    public Optional<LocalDateTime> latestAt(LocalDateTime at) {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(
+                "select max(taken_at) from sport_event_status_snapshots where taken_at <= ?", LocalDateTime.class, at));
+    }
+
+    /**
+     * Rows of the snapshot taken at {@code takenAt} in event id order, read along the primary key.
+     * The stream holds a connection until it is closed.
+     */
+    public Stream<SportEventStatusChangeDTO> stream(LocalDateTime takenAt) {
+        return jdbcTemplate.queryForStream("""
+                select sport_event_id, from_status, to_status, changed_at, version from sport_event_status_snapshots
+                where taken_at = ?
+                order by sport_event_id""", CHANGE_MAPPER, takenAt);
+    }
+
+    public void insert(LocalDateTime takenAt, List<SportEventStatusChangeDTO> changes) {
+        var rows = new ArrayList<Object[]>(changes.size());
+        for (var change : changes) {
+            rows.add(new Object[]{
+                    takenAt,
+                    change.getSportEventId(),
+                    change.getFromStatus() == null ? null : change.getFromStatus().name(),
+                    change.getToStatus().name(),
+                    change.getChangedAt(),
+                    change.getVersion()});
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+
+    /**
+     * Deletes all snapshots but the latest {@code kept} ones, returns the number of rows deleted.
+     */
+    public int deleteAllButLatest(int kept) {
+        var oldestKept = jdbcTemplate.queryForList("""
+                select distinct taken_at from sport_event_status_snapshots
+                order by taken_at desc
+                offset %d rows fetch first 1 rows only""".formatted(Math.max(kept - 1, 0)), LocalDateTime.class);
+        if (oldestKept.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("delete from sport_event_status_snapshots where taken_at < ?", oldestKept.get(0));
+    }
+
+    private static SportEventStatus statusOf(String name) {
+        return name == null ? null : SportEventStatus.valueOf(name);
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.sporteventsapi.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.exception.IdempotencyKeyReusedException;
+import org.example.sporteventsapi.exception.InvalidRequestParameterException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the outcome of creates sent with an {@code Idempotency-Key} header, bounded in size
+ * and expiring after {@code sport-events.idempotency.ttl}.
+ * <p>
+ * The first request for a key claims it with a pending result, duplicates that arrive while it
+ * runs wait for that result instead of inserting again, and later retries get it straight from
+ * memory. A failed create releases the key, so the client can retry it. Reusing a key for a
+ * different payload is rejected.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, Entry> entries;
+
+    public IdempotencyStore(SportEventsProperties properties) {
+        var idempotency = properties.getIdempotency();
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(idempotency.getMaxKeys())
+                .expireAfterWrite(idempotency.getTtl())
+                .build();
+    }
+
+    /**
+     * Runs {@code create} once per key, duplicates get the result of the first run.
+     */
+    public Outcome execute(String key, SportEventDTO request, Supplier<SportEventDTO> create) {
+        var claim = claim(key, request);
+        if (!claim.isOwner()) {
+            return new Outcome(claim.join(), true);
+        }
+        try {
+            var created = create.get();
+            claim.complete(created);
+            return new Outcome(created, false);
+        } catch (RuntimeException e) {
+            claim.fail(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Claims {@code key} for {@code request}. The owner of the claim has to {@link Claim#complete}
+     * or {@link Claim#fail} it, everybody else waits on {@link Claim#result()}.
+     */
+    public Claim claim(String key, SportEventDTO request) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestParameterException(KEY_HEADER, key);
+        }
+        var entry = new Entry(request, new CompletableFuture<>());
+        var existing = entries.asMap().putIfAbsent(key, entry);
+        if (existing == null) {
+            return new Claim(key, entry, true);
+        }
+        if (!existing.request().equals(request)) {
+            throw new IdempotencyKeyReusedException(key);
+        }
+        return new Claim(key, existing, false);
+    }
+
+    public record Outcome(SportEventDTO sportEvent, boolean replayed) {
+    }
+
+    private record Entry(SportEventDTO request, CompletableFuture<SportEventDTO> result) {
+    }
+
+    public final class Claim {
+
+        private final String key;
+        private final Entry entry;
+        private final boolean owner;
+
+        private Claim(String key, Entry entry, boolean owner) {
+            this.key = key;
+            this.entry = entry;
+            this.owner = owner;
+        }
+
+        public boolean isOwner() {
+            return owner;
+        }
+
+        public CompletableFuture<SportEventDTO> result() {
+            return entry.result();
+        }
+
+        public void complete(SportEventDTO created) {
+            entry.result().complete(created);
+        }
+
+        public void fail(Throwable failure) {
+            entries.asMap().remove(key, entry);
+            entry.result().completeExceptionally(failure);
+        }
+
+        private SportEventDTO join() {
+            try {
+                return entry.result().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.sporteventsapi.index;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+
+/**
+ * Lazy merges of id-ordered sets shared by the indexes.
+ */
+final class SortedIds {
+
+    private SortedIds() {
+    }
+
+    /**
+     * Ids of all {@code sets} above {@code afterId} in ascending order without duplicates, read
+     * lazily so only as much of every set is visited as the page needs.
+     */
+    static Iterator<Long> merge(Iterable<? extends NavigableSet<Long>> sets, long afterId) {
+        var heads = new PriorityQueue<Head>(Comparator.comparingLong(Head::id));
+        for (var ids : sets) {
+            var iterator = ids.tailSet(afterId, false).iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head(iterator.next(), iterator));
+            }
+        }
+        return new Iterator<>() {
+            private long last = afterId;
+
+            @Override
+            public boolean hasNext() {
+                while (!heads.isEmpty() && heads.peek().id() <= last) {
+                    advance(heads.poll());
+                }
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public Long next() {
+                hasNext();
+                var head = heads.poll();
+                last = head.id();
+                advance(head);
+                return last;
+            }
+
+            private void advance(Head head) {
+                if (head.rest().hasNext()) {
+                    heads.add(new Head(head.rest().next(), head.rest()));
+                }
+            }
+        };
+    }
+
+    private record Head(long id, Iterator<Long> rest) {
+    }
+}
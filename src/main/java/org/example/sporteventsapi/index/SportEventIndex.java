@@ -0,0 +1,227 @@
+package org.example.sporteventsapi.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.dto.SportEventFilter;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.example.sporteventsapi.model.SportEventSort;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.repository.SportEventPosition;
+import org.example.sporteventsapi.repository.SportEventRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory secondary index of sport events keyed by the (sportType, eventStatus) bucket.
+ * <p>
+ * Buckets hold id-ordered sets, so keyset pages are served straight from memory, and
+ * {@link #eventsById} holds the current DTO of every event. Writers for the same id are
+ * serialized on a lock stripe and move an event in three steps: add to the new bucket,
+ * publish the new DTO, remove from the old bucket. A reader only returns an id from a bucket
+ * that matches the current DTO, so a filtered page never sees an event in two buckets.
+ * <p>
+ * Pages without a status filter read the per-type id sets instead, which an event never leaves
+ * since its type does not change: a bucket scan could pass the new bucket before the event
+ * enters it and reach the old one after it left, and lose the event for good behind the cursor.
+ * With a status filter, only events entering or leaving the filter move between the buckets
+ * read. Several sets are merged lazily in id order and the scan stops once the page is full.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SportEventIndex {
+
+    private static final SportType[] TYPES = SportType.values();
+    private static final SportEventStatus[] STATUSES = SportEventStatus.values();
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final int LOCK_STRIPES = 64;
+
+    private final SportEventRepository sportEventRepository;
+
+    private final Map<Long, SportEventDTO> eventsById = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    private final ConcurrentSkipListSet<Long>[] buckets = new ConcurrentSkipListSet[TYPES.length * STATUSES.length];
+
+    @SuppressWarnings("unchecked")
+    private final ConcurrentSkipListSet<Long>[] byType = new ConcurrentSkipListSet[TYPES.length];
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    private final AtomicLongArray bucketVersions = new AtomicLongArray(buckets.length);
+
+    /**
+     * Random per process, so bucket versions from before a restart never collide with new ones.
+     */
+    @Getter
+    private final long generation = ThreadLocalRandom.current().nextLong();
+
+    private volatile boolean ready;
+
+    {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new ConcurrentSkipListSet<>();
+        }
+        for (int i = 0; i < byType.length; i++) {
+            byType[i] = new ConcurrentSkipListSet<>();
+        }
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Loads all events page by page. Changes that arrive while rebuilding win over the rows read here.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        SportEventPosition after = null;
+        List<SportEventDTO> page;
+        do {
+            page = sportEventRepository.findPage(SportEventFilter.NONE, SportEventSort.ID, after, REBUILD_PAGE_SIZE);
+            for (var sportEvent : page) {
+                putIfAbsent(sportEvent);
+                after = new SportEventPosition(null, sportEvent.getId());
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+        ready = true;
+        log.info("Sport event index built with {} events", eventsById.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSportEventChanged(SportEventChangedEvent event) {
+        put(event.getCurrent());
+    }
+
+    /**
+     * Stores {@code sportEvent} unless the index already holds the same or a newer version of it.
+     * After-commit listeners of two changes to one event may run in either order, the older one
+     * arriving last must not win.
+     */
+    public void put(SportEventDTO sportEvent) {
+        if (!isIndexable(sportEvent)) {
+            return;
+        }
+        var id = sportEvent.getId();
+        synchronized (lock(id)) {
+            var previous = eventsById.get(id);
+            if (isNotNewer(sportEvent, previous)) {
+                return;
+            }
+            var bucket = bucketIndex(sportEvent);
+            buckets[bucket].add(id);
+            byType[sportEvent.getSportType().ordinal()].add(id);
+            eventsById.put(id, sportEvent);
+            if (previous != null && bucketIndex(previous) != bucket) {
+                buckets[bucketIndex(previous)].remove(id);
+                bucketVersions.incrementAndGet(bucketIndex(previous));
+            }
+            if (previous != null && previous.getSportType() != sportEvent.getSportType()) {
+                byType[previous.getSportType().ordinal()].remove(id);
+            }
+            bucketVersions.incrementAndGet(bucket);
+        }
+    }
+
+    public SportEventDTO get(Long id) {
+        return eventsById.get(id);
+    }
+
+    /**
+     * Sum of the change counters of every bucket matching the filter. It only grows, so any change
+     * to a matching event yields a new value. A {@code null} type or status matches every value.
+     */
+    public long getVersion(SportType type, SportEventStatus status) {
+        long version = 0;
+        for (var candidateType : TYPES) {
+            for (var candidateStatus : STATUSES) {
+                if ((type == null || type == candidateType) && (status == null || status == candidateStatus)) {
+                    version += bucketVersions.get(bucketIndex(candidateType, candidateStatus));
+                }
+            }
+        }
+        return version;
+    }
+
+    public int size() {
+        return eventsById.size();
+    }
+
+    /**
+     * Returns up to {@code limit} events with an id greater than {@code afterId}, ordered by id.
+     * A {@code null} type or status matches every value.
+     */
+    public List<SportEventDTO> findPage(SportType type, SportEventStatus status, long afterId, int limit) {
+        var sets = new ArrayList<ConcurrentSkipListSet<Long>>(TYPES.length);
+        for (var candidateType : TYPES) {
+            if (type == null || type == candidateType) {
+                sets.add(status == null ? byType[candidateType.ordinal()] : buckets[bucketIndex(candidateType, status)]);
+            }
+        }
+        var candidates = sets.size() == 1 ? sets.get(0).tailSet(afterId, false).iterator() : SortedIds.merge(sets, afterId);
+        var result = new ArrayList<SportEventDTO>(Math.min(limit, 256));
+        while (candidates.hasNext() && result.size() < limit) {
+            var current = eventsById.get(candidates.next());
+            if (current != null && (type == null || type == current.getSportType())
+                    && (status == null || status == current.getEventStatus())) {
+                result.add(current);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Events without a version, only seen in tests, are always applied.
+     */
+    private static boolean isNotNewer(SportEventDTO incoming, SportEventDTO existing) {
+        return existing != null && existing.getVersion() != null && incoming.getVersion() != null
+                && existing.getVersion() >= incoming.getVersion();
+    }
+
+    private void putIfAbsent(SportEventDTO sportEvent) {
+        if (!isIndexable(sportEvent)) {
+            return;
+        }
+        var id = sportEvent.getId();
+        synchronized (lock(id)) {
+            if (!eventsById.containsKey(id)) {
+                buckets[bucketIndex(sportEvent)].add(id);
+                byType[sportEvent.getSportType().ordinal()].add(id);
+                eventsById.put(id, sportEvent);
+            }
+        }
+    }
+
+    private Object lock(long id) {
+        return locks[(int) (id ^ (id >>> 32)) & (LOCK_STRIPES - 1)];
+    }
+
+    private static boolean isIndexable(SportEventDTO sportEvent) {
+        return sportEvent.getId() != null && sportEvent.getSportType() != null && sportEvent.getEventStatus() != null;
+    }
+
+    private static int bucketIndex(SportEventDTO sportEvent) {
+        return bucketIndex(sportEvent.getSportType(), sportEvent.getEventStatus());
+    }
+
+    private static int bucketIndex(SportType type, SportEventStatus status) {
+        return type.ordinal() * STATUSES.length + status.ordinal();
+    }
+}
@@ -0,0 +1,287 @@
+package org.example.sporteventsapi.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.dto.SportEventFilter;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.example.sporteventsapi.model.SportEventSort;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.repository.SportEventPosition;
+import org.example.sporteventsapi.repository.SportEventRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index of sport event names: every lower-cased token of a name maps to the
+ * id-ordered set of events containing it. Tokens are kept sorted, so the events of every token
+ * starting with a prefix are one sub-map away.
+ * <p>
+ * A query matches names containing all of its terms, the last term as a prefix so it can be
+ * typed incrementally. Matches come in id order, candidates are read sequentially from the smallest
+ * posting set of the complete terms, or merged from the posting sets of the prefix when there is
+ * only one term, and stop as soon as a page is full. Each candidate is checked against its current
+ * name, type and status in {@link SportEventIndex}, which also supplies the returned DTO. Probing
+ * the other posting sets instead would cost a skip list descent per candidate and term.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SportEventNameIndex {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final SportEventRepository sportEventRepository;
+
+    private final SportEventIndex sportEventIndex;
+
+    private final ConcurrentSkipListMap<String, Postings> postings = new ConcurrentSkipListMap<>();
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready && sportEventIndex.isReady();
+    }
+
+    /**
+     * Loads the names of all events page by page, the event index answers the rest of a query.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        SportEventPosition after = null;
+        List<SportEventDTO> page;
+        do {
+            page = sportEventRepository.findPage(SportEventFilter.NONE, SportEventSort.ID, after, REBUILD_PAGE_SIZE);
+            for (var sportEvent : page) {
+                add(sportEvent.getId(), sportEvent.getName());
+                after = new SportEventPosition(null, sportEvent.getId());
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+        ready = true;
+        log.info("Sport event name index built with {} tokens", postings.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSportEventChanged(SportEventChangedEvent event) {
+        var current = event.getCurrent();
+        var previous = event.getPrevious();
+        if (current.getId() == null) {
+            return;
+        }
+        if (previous != null && !Objects.equals(previous.getName(), current.getName())) {
+            var kept = tokenize(current.getName());
+            for (var token : tokenize(previous.getName())) {
+                if (!kept.contains(token)) {
+                    remove(current.getId(), token);
+                }
+            }
+        }
+        add(current.getId(), current.getName());
+    }
+
+    /**
+     * Returns up to {@code limit} events with an id greater than {@code afterId} whose name
+     * matches every term of {@code terms}, ordered by id. A {@code null} type or status matches
+     * every value.
+     */
+    public List<SportEventDTO> search(List<String> terms, SportType type, SportEventStatus status, long afterId, int limit) {
+        var result = new ArrayList<SportEventDTO>(Math.min(limit, 256));
+        if (terms.isEmpty()) {
+            return result;
+        }
+        var prefix = terms.get(terms.size() - 1);
+        var complete = terms.subList(0, terms.size() - 1);
+
+        Iterator<Long> candidates;
+        if (complete.isEmpty()) {
+            var tokens = tokensStartingWith(prefix).values();
+            candidates = SortedIds.merge(() -> tokens.stream().map(Postings::ids).iterator(), afterId);
+        } else {
+            Postings driver = null;
+            for (var term : complete) {
+                var ids = postings.get(term);
+                if (ids == null) {
+                    return result;
+                }
+                if (driver == null || ids.size() < driver.size()) {
+                    driver = ids;
+                }
+            }
+            candidates = driver.ids().tailSet(afterId, false).iterator();
+        }
+        while (candidates.hasNext() && result.size() < limit) {
+            var sportEvent = sportEventIndex.get(candidates.next());
+            if (sportEvent != null
+                    && (type == null || type == sportEvent.getSportType())
+                    && (status == null || status == sportEvent.getEventStatus())
+                    && matches(sportEvent.getName(), complete, prefix)) {
+                result.add(sportEvent);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Lower-cased tokens of {@code text}, split at everything that is neither a letter nor a digit.
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        var tokens = new ArrayList<String>();
+        for (var token : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty() && !tokens.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    public int tokenCount() {
+        return postings.size();
+    }
+
+    /**
+     * Number of tokens starting with {@code prefix}, counted no further than {@code max + 1} so a
+     * broad prefix costs no more than the check.
+     */
+    public int prefixTokenCount(String prefix, int max) {
+        var count = 0;
+        var tokens = tokensStartingWith(prefix).keySet().iterator();
+        while (count <= max && tokens.hasNext()) {
+            tokens.next();
+            count++;
+        }
+        return count;
+    }
+
+    private NavigableMap<String, Postings> tokensStartingWith(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * Checks the current name: posting sets may briefly hold an id under a token its name just
+     * lost, and the candidates of complete terms still need the other terms and the prefix. Runs
+     * once per candidate, so the tokens are compared in place instead of being split out.
+     */
+    private static boolean matches(String name, List<String> complete, String prefix) {
+        if (name == null) {
+            return false;
+        }
+        var text = name.toLowerCase(Locale.ROOT);
+        var found = new boolean[complete.size()];
+        var missing = complete.size();
+        var prefixFound = false;
+        var start = 0;
+        while (start < text.length()) {
+            while (start < text.length() && !isTokenChar(text.codePointAt(start))) {
+                start += Character.charCount(text.codePointAt(start));
+            }
+            var end = start;
+            while (end < text.length() && isTokenChar(text.codePointAt(end))) {
+                end += Character.charCount(text.codePointAt(end));
+            }
+            if (end == start) {
+                break;
+            }
+            var length = end - start;
+            prefixFound |= length >= prefix.length() && text.startsWith(prefix, start);
+            for (int i = 0; i < found.length; i++) {
+                var term = complete.get(i);
+                if (!found[i] && term.length() == length && text.startsWith(term, start)) {
+                    found[i] = true;
+                    missing--;
+                }
+            }
+            if (prefixFound && missing == 0) {
+                return true;
+            }
+            start = end;
+        }
+        return false;
+    }
+
+    /**
+     * Letters and numbers, the complement of {@link #SEPARATORS}.
+     */
+    private static boolean isTokenChar(int codePoint) {
+        if (codePoint < 0x80) {
+            return codePoint >= 'a' && codePoint <= 'z' || codePoint >= '0' && codePoint <= '9'
+                    || codePoint >= 'A' && codePoint <= 'Z';
+        }
+        if (Character.isLetter(codePoint)) {
+            return true;
+        }
+        var type = Character.getType(codePoint);
+        return type == Character.DECIMAL_DIGIT_NUMBER || type == Character.LETTER_NUMBER || type == Character.OTHER_NUMBER;
+    }
+
+    private void add(Long id, String name) {
+        for (var token : tokenize(name)) {
+            // Applied again if a concurrent removal drops the set, the id always ends up in the mapped one
+            postings.compute(token, (key, ids) -> {
+                var target = ids == null ? new Postings() : ids;
+                target.add(id);
+                return target;
+            });
+        }
+    }
+
+    private void remove(Long id, String token) {
+        postings.computeIfPresent(token, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /**
+     * Ids of the events containing one token. The size is counted on the side, a skip list would
+     * walk all its nodes to answer it.
+     */
+    private static final class Postings {
+
+        private final NavigableSet<Long> ids = new ConcurrentSkipListSet<>();
+
+        private final AtomicInteger size = new AtomicInteger();
+
+        NavigableSet<Long> ids() {
+            return ids;
+        }
+
+        int size() {
+            return size.get();
+        }
+
+        boolean isEmpty() {
+            return size.get() == 0;
+        }
+
+        void add(Long id) {
+            if (ids.add(id)) {
+                size.incrementAndGet();
+            }
+        }
+
+        void remove(Long id) {
+            if (ids.remove(id)) {
+                size.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.sporteventsapi.lifecycle;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.example.sporteventsapi.dto.SportEventStatusChangeRequest;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.example.sporteventsapi.metrics.SportEventMetrics;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.repository.SportEventRepository;
+import org.example.sporteventsapi.service.SportEventBatchService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Moves events through their lifecycle without client calls: INACTIVE events are activated
+ * shortly before they start and ACTIVE events are finished some time after they started.
+ * <p>
+ * Upcoming transitions are kept in a time-ordered in-memory queue, recovered from the database
+ * on startup and kept in sync with {@link SportEventChangedEvent}s. Due transitions are applied in
+ * batches through the bulk status change, so the regular transition rules still apply. A batch
+ * that fails is put back into the queue with an exponential backoff, unless a live change has
+ * scheduled the event again in the meantime.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "sport-events.lifecycle", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SportEventLifecycleScheduler {
+
+    private static final int RECOVERY_PAGE_SIZE = 1000;
+
+    private final SportEventRepository sportEventRepository;
+    private final SportEventBatchService batchService;
+    private final SportEventsProperties properties;
+    private final SportEventMetrics metrics;
+
+    private final ConcurrentSkipListSet<ScheduledTransition> queue = new ConcurrentSkipListSet<>();
+    private final Map<Long, ScheduledTransition> scheduledById = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        var statuses = List.of(SportEventStatus.INACTIVE, SportEventStatus.ACTIVE);
+        long afterId = 0L;
+        int pageSize;
+        do {
+            var page = sportEventRepository.findSchedules(statuses, afterId, Limit.of(RECOVERY_PAGE_SIZE));
+            for (var schedule : page) {
+                schedule(schedule.getId(), schedule.getEventStatus(), schedule.getStartTime(), true);
+                afterId = schedule.getId();
+            }
+            pageSize = page.size();
+        } while (pageSize == RECOVERY_PAGE_SIZE);
+        log.info("Status lifecycle recovered with {} pending transitions", queue.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSportEventChanged(SportEventChangedEvent event) {
+        var current = event.getCurrent();
+        schedule(current.getId(), current.getEventStatus(), current.getStartTime(), false);
+    }
+
+    @Scheduled(fixedDelayString = "${sport-events.lifecycle.tick:PT1S}")
+    public void tick() {
+        runDueTransitions(LocalDateTime.now());
+    }
+
+    int pendingTransitions() {
+        return queue.size();
+    }
+
+    void runDueTransitions(LocalDateTime now) {
+        var dueByStatus = new EnumMap<SportEventStatus, List<Long>>(SportEventStatus.class);
+        var running = new HashMap<Long, ScheduledTransition>();
+        for (var iterator = queue.iterator(); iterator.hasNext(); ) {
+            var head = iterator.next();
+            if (head.dueAt().isAfter(now)) {
+                break;
+            }
+            iterator.remove();
+            // The entry stays in scheduledById while its batch runs, so a live change replaces it
+            if (head.equals(scheduledById.get(head.id()))) {
+                dueByStatus.computeIfAbsent(head.newStatus(), status -> new ArrayList<>()).add(head.id());
+                running.put(head.id(), head);
+            }
+        }
+
+        var chunkSize = properties.getLifecycle().getChunkSize();
+        dueByStatus.forEach((newStatus, ids) -> {
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                var chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                if (apply(chunk, newStatus)) {
+                    chunk.forEach(id -> scheduledById.remove(id, running.get(id)));
+                } else {
+                    retry(chunk, running, now);
+                }
+            }
+        });
+    }
+
+    private boolean apply(List<Long> ids, SportEventStatus newStatus) {
+        try {
+            var result = batchService.changeEventStatuses(SportEventStatusChangeRequest.builder()
+                    .ids(ids)
+                    .newStatus(newStatus)
+                    .build());
+            log.info("Lifecycle moved {} events to {}, {} rejected", result.getUpdated().size(), newStatus, result.getRejected().size());
+            result.getRejected().forEach(rejection ->
+                    log.debug("Lifecycle skipped event {}: {}", rejection.getId(), rejection.getReason()));
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Lifecycle transition of {} events to {} failed: {}", ids.size(), newStatus, e.getMessage(), e);
+            metrics.lifecycleFailed(newStatus, ids.size());
+            return false;
+        }
+    }
+
+    /**
+     * Puts the transitions of a failed batch back into the queue, each one waiting twice as long as
+     * on its previous attempt up to the configured maximum. An event that a live change scheduled
+     * again while the batch ran keeps that newer entry.
+     */
+    private void retry(List<Long> ids, Map<Long, ScheduledTransition> running, LocalDateTime now) {
+        var lifecycle = properties.getLifecycle();
+        for (var id : ids) {
+            var failed = running.get(id);
+            int attempt = failed.attempt() + 1;
+            var retry = new ScheduledTransition(now.plus(backoff(lifecycle, attempt)), id, failed.newStatus(), attempt);
+            scheduledById.computeIfPresent(id, (key, existing) -> {
+                if (!existing.equals(failed)) {
+                    return existing;
+                }
+                queue.add(retry);
+                return retry;
+            });
+        }
+    }
+
+    private static Duration backoff(SportEventsProperties.Lifecycle lifecycle, int attempt) {
+        var backoff = lifecycle.getRetryBackoff().multipliedBy(1L << Math.min(attempt - 1, 20));
+        return backoff.compareTo(lifecycle.getMaxRetryBackoff()) > 0 ? lifecycle.getMaxRetryBackoff() : backoff;
+    }
+
+    /**
+     * Replaces whatever is scheduled for the event with its next transition, if it has one.
+     * During recovery an entry already scheduled from a live change is kept.
+     */
+    private void schedule(Long id, SportEventStatus status, LocalDateTime startTime, boolean recovering) {
+        var next = nextTransition(id, status, startTime);
+        scheduledById.compute(id, (key, existing) -> {
+            if (recovering && existing != null) {
+                return existing;
+            }
+            if (existing != null) {
+                queue.remove(existing);
+            }
+            if (next != null) {
+                queue.add(next);
+            }
+            return next;
+        });
+    }
+
+    private ScheduledTransition nextTransition(Long id, SportEventStatus status, LocalDateTime startTime) {
+        if (id == null || status == null || startTime == null) {
+            return null;
+        }
+        var lifecycle = properties.getLifecycle();
+        return switch (status) {
+            case INACTIVE -> lifecycle.getActivateBefore() == null || !startTime.isAfter(LocalDateTime.now())
+                    ? null
+                    : new ScheduledTransition(startTime.minus(lifecycle.getActivateBefore()), id, SportEventStatus.ACTIVE);
+            case ACTIVE -> lifecycle.getFinishAfter() == null
+                    ? null
+                    : new ScheduledTransition(startTime.plus(lifecycle.getFinishAfter()), id, SportEventStatus.FINISHED);
+            case FINISHED -> null;
+        };
+    }
+
+    record ScheduledTransition(LocalDateTime dueAt, long id, SportEventStatus newStatus, int attempt)
+            implements Comparable<ScheduledTransition> {
+
+        ScheduledTransition(LocalDateTime dueAt, long id, SportEventStatus newStatus) {
+            this(dueAt, id, newStatus, 0);
+        }
+
+        private static final Comparator<ScheduledTransition> ORDER = Comparator
+                .comparing(ScheduledTransition::dueAt)
+                .thenComparingLong(ScheduledTransition::id);
+
+        @Override
+        public int compareTo(ScheduledTransition other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
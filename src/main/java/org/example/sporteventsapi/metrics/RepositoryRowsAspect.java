@@ -0,0 +1,65 @@
+package org.example.sporteventsapi.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Row counts per repository method. Latency of the same calls is recorded by Spring Boot as
+ * {@code spring.data.repository.invocations}, tagged with the same {@code method} name.
+ */
+@Aspect
+@Component
+@AllArgsConstructor
+public class RepositoryRowsAspect {
+
+    public static final String REPOSITORY_ROWS = "sport_events.repository.rows";
+
+    @NonNull
+    private MeterRegistry meterRegistry;
+
+    @AfterReturning(pointcut = "execution(* org.example.sporteventsapi.repository.SportEventRepository+.*(..))",
+            returning = "result")
+    public void recordRows(JoinPoint joinPoint, Object result) {
+        var rows = rowsOf(result);
+        if (rows < 0) {
+            return;
+        }
+        DistributionSummary.builder(REPOSITORY_ROWS)
+                .description("Rows read or written by repository methods")
+                .tag("method", joinPoint.getSignature().getName())
+                .register(meterRegistry)
+                .record(rows);
+    }
+
+    /**
+     * Streams are consumed after the call returns, so they are not counted here.
+     */
+    private static long rowsOf(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Integer count) {
+            return count;
+        }
+        if (result instanceof boolean[] changed) {
+            var count = 0;
+            for (var row : changed) {
+                count += row ? 1 : 0;
+            }
+            return count;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.sporteventsapi.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import org.example.sporteventsapi.exception.ApiException;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain metrics that the generic web and repository timers cannot tag: listings by filter
+ * combination and rejected status changes by transition. Every tag takes a bounded set of
+ * enum values, so the number of series stays small.
+ */
+@Component
+@AllArgsConstructor
+public class SportEventMetrics {
+
+    public static final String QUERY_TIMER = "sport_events.query";
+    public static final String QUERY_ROWS = "sport_events.query.rows";
+    public static final String STATUS_CHANGE_ERRORS = "sport_events.status_change.errors";
+    public static final String SINGLE_FLIGHT = "sport_events.single_flight";
+    public static final String SEARCH_REJECTED = "sport_events.search.rejected";
+    public static final String LIFECYCLE_FAILURES = "sport_events.lifecycle.failures";
+
+    private static final String ANY = "any";
+
+    private static final int STATUS_SLOTS = SportEventStatus.values().length + 1;
+
+    @NonNull
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Rejection counters by exception, indexed by transition. Rejections are what abusive clients
+     * produce in bulk, so counting one must not build meter ids on every call. Racing
+     * registrations resolve to the same meter in the registry.
+     */
+    private final Map<Class<? extends ApiException>, Counter[]> statusChangeErrors = new ConcurrentHashMap<>();
+
+    /**
+     * Records one listing request, {@code source} tells whether the index or the database served it.
+     */
+    public void recordQuery(SportType type, SportEventStatus status, String source, long durationNanos, int rows) {
+        Timer.builder(QUERY_TIMER)
+                .description("Sport event listings by filter combination")
+                .tag("type", tagOf(type))
+                .tag("status", tagOf(status))
+                .tag("source", source)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(QUERY_ROWS)
+                .description("Rows returned by sport event listings")
+                .tag("type", tagOf(type))
+                .tag("status", tagOf(status))
+                .register(meterRegistry)
+                .record(rows);
+    }
+
+    public void statusChangeRejected(Class<? extends ApiException> reason, SportEventStatus from, SportEventStatus to) {
+        var counters = statusChangeErrors.get(reason);
+        if (counters == null) {
+            counters = statusChangeErrors.computeIfAbsent(reason, key -> new Counter[STATUS_SLOTS * STATUS_SLOTS]);
+        }
+        var slot = slotOf(from) * STATUS_SLOTS + slotOf(to);
+        var counter = counters[slot];
+        if (counter == null) {
+            counter = Counter.builder(STATUS_CHANGE_ERRORS)
+                    .description("Rejected sport event status changes")
+                    .tag("exception", reason.getSimpleName())
+                    .tag("from", tagOf(from))
+                    .tag("to", tagOf(to))
+                    .register(meterRegistry);
+            counters[slot] = counter;
+        }
+        counter.increment();
+    }
+
+    /**
+     * Counts one coalesced load, {@code shared} when the caller took the result of a load already
+     * in flight instead of going to the database. The shared count is the load saved.
+     */
+    public void singleFlight(String operation, boolean shared) {
+        Counter.builder(SINGLE_FLIGHT)
+                .description("Loads run or shared by concurrent identical reads")
+                .tag("operation", operation)
+                .tag("outcome", shared ? "shared" : "loaded")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Counts one search refused before touching the index, {@code reason} is one of a few fixed values.
+     */
+    public void searchRejected(String reason) {
+        Counter.builder(SEARCH_REJECTED)
+                .description("Name searches refused because their prefix would expand to too many tokens")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Counts the transitions of one lifecycle batch that failed and were queued again.
+     */
+    public void lifecycleFailed(SportEventStatus newStatus, int transitions) {
+        Counter.builder(LIFECYCLE_FAILURES)
+                .description("Automatic status transitions that failed and were retried later")
+                .tag("to", tagOf(newStatus))
+                .register(meterRegistry)
+                .increment(transitions);
+    }
+
+    private static int slotOf(SportEventStatus status) {
+        return status == null ? STATUS_SLOTS - 1 : status.ordinal();
+    }
+
+    private static String tagOf(Enum<?> value) {
+        return value == null ? ANY : value.name();
+    }
+}
@@ -9,9 +9,21 @@ import lombok.Setter;
 @MappedSuperclass
 public abstract class BaseEntity {
 
+    /**
+     * Pooled sequence ids are allocated in blocks of 50 and let Hibernate batch inserts,
+     * which {@code IDENTITY} columns rule out.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sport_events_seq")
+    @SequenceGenerator(name = "sport_events_seq", sequenceName = "sport_events_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
+    /**
+     * Incremented on every update, exposed to clients as the entity tag.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 }
@@ -8,7 +8,11 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @Setter
-@Table(name = "sport_events")
+@Table(name = "sport_events", indexes = {
+        @Index(name = "idx_sport_events_start_time", columnList = "start_time"),
+        @Index(name = "idx_sport_events_type_status", columnList = "sport_type, event_status"),
+        @Index(name = "idx_sport_events_status_start_time", columnList = "event_status, start_time")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -0,0 +1,7 @@
+package org.example.sporteventsapi.model;
+
+public enum SportEventSort {
+    ID,
+    START_TIME,
+    START_TIME_DESC
+}
@@ -0,0 +1,48 @@
+package org.example.sporteventsapi.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the append-only status log. Rows are inserted in JDBC batches and never changed,
+ * the entity only exists to query them.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "sport_event_status_changes", indexes = {
+        @Index(name = "idx_sport_event_status_changes_event_version", columnList = "sport_event_id, version"),
+        @Index(name = "idx_sport_event_status_changes_changed_at", columnList = "changed_at")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SportEventStatusChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "sport_event_id", nullable = false)
+    private Long sportEventId;
+
+    @Column(name = "from_status")
+    @Enumerated(EnumType.STRING)
+    private SportEventStatus fromStatus;
+
+    @Column(name = "to_status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private SportEventStatus toStatus;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    /**
+     * Version of the event after the change, orders the changes of one event.
+     */
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
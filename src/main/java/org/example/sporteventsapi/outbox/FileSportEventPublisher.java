@@ -0,0 +1,56 @@
+package org.example.sporteventsapi.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Local stand-in for a message broker: appends every message to a file as one line of JSON and
+ * forces it to disk before the relay deletes the messages from the outbox.
+ */
+public class FileSportEventPublisher implements SportEventPublisher {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public FileSportEventPublisher(ObjectMapper objectMapper, Path file) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+    }
+
+    @Override
+    public synchronized void publish(List<SportEventOutboxMessage> messages) {
+        try {
+            var lines = new ByteArrayOutputStream(messages.size() * 256);
+            for (var message : messages) {
+                lines.write(objectMapper.writeValueAsBytes(message));
+                lines.write('\n');
+            }
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND)) {
+                var buffer = ByteBuffer.wrap(lines.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to " + file, e);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.sporteventsapi.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link SportEventOutbox} for the R2DBC writes of the {@code reactive} profile. Callers subscribe
+ * to {@link #record} within the {@code TransactionalOperator} of the change, so the row commits
+ * or rolls back with it, and publish the event with {@code recorded} set afterwards.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveSportEventOutbox {
+
+    private final DatabaseClient databaseClient;
+
+    private final ObjectMapper objectMapper;
+
+    public Mono<Void> record(SportEventChangedEvent event) {
+        return Mono.fromCallable(() -> serialize(event))
+                .flatMap(payload -> databaseClient.sql("""
+                                insert into sport_event_outbox (sport_event_id, change_type, payload, created_at)
+                                values (:sportEventId, :changeType, :payload, :createdAt)""")
+                        .bind("sportEventId", event.getCurrent().getId())
+                        .bind("changeType", SportEventOutboxMessage.changeTypeOf(event))
+                        .bind("payload", payload)
+                        .bind("createdAt", event.getChangedAt())
+                        .fetch()
+                        .rowsUpdated())
+                .then();
+    }
+
+    private String serialize(SportEventChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event.getCurrent());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Sport event " + event.getCurrent().getId() + " could not be serialized", e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.sporteventsapi.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records every change in the outbox table within the transaction making it, so a change is
+ * relayed if and only if it commits. The rows of one transaction are collected while it runs and
+ * inserted in one JDBC batch just before it commits, a bulk change of a thousand events adds one
+ * batch rather than a thousand statements.
+ * <p>
+ * A change published outside of a transaction is refused: its row could not be atomic with it.
+ * The R2DBC writes of the {@code reactive} profile record their rows through
+ * {@link ReactiveSportEventOutbox} in their own transaction and are skipped here.
+ */
+@Component
+@RequiredArgsConstructor
+public class SportEventOutbox {
+
+    static final String INSERT = """
+            insert into sport_event_outbox (sport_event_id, change_type, payload, created_at)
+            values (?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * A plain listener: it runs while the publishing transaction is still open.
+     */
+    @EventListener
+    public void onSportEventChanged(SportEventChangedEvent event) {
+        var current = event.getCurrent();
+        if (current.getId() == null || event.isRecorded()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Sport event " + current.getId()
+                    + " was changed outside of a transaction, its outbox row would not be atomic with the change");
+        }
+        Object[] row;
+        try {
+            row = new Object[]{
+                    current.getId(),
+                    SportEventOutboxMessage.changeTypeOf(event),
+                    objectMapper.writeValueAsString(current),
+                    event.getChangedAt()};
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Sport event " + current.getId() + " could not be serialized", e);
+        }
+        pendingRows().add(row);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> pendingRows() {
+        var rows = (List<Object[]>) TransactionSynchronizationManager.getResource(this);
+        if (rows == null) {
+            var bound = new ArrayList<Object[]>();
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    jdbcTemplate.batchUpdate(INSERT, bound);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(SportEventOutbox.this);
+                }
+            });
+            rows = bound;
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.sporteventsapi.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Value;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change relayed from the outbox. Delivery is at least once, consumers drop messages whose
+ * {@code id} they have already seen; the changes of one event arrive in the order they were made.
+ */
+@Value
+public class SportEventOutboxMessage {
+
+    public static final String CREATED = "created";
+    public static final String STATUS_CHANGED = "status-changed";
+
+    /**
+     * Position in the outbox, increasing in delivery order.
+     */
+    long id;
+
+    Long sportEventId;
+
+    String type;
+
+    /**
+     * The event after the change as JSON, written out as is.
+     */
+    @JsonRawValue
+    String sportEvent;
+
+    LocalDateTime createdAt;
+
+    static String changeTypeOf(SportEventChangedEvent event) {
+        return event.getPrevious() == null ? CREATED : STATUS_CHANGED;
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.sporteventsapi.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Drains the outbox in the background: the oldest rows are read, published and deleted in one
+ * transaction, batch after batch until the outbox is empty or the run has relayed its maximum
+ * number of batches, the next run continues where it stopped.
+ * <p>
+ * Rows are deleted only after the publisher returned, so a crash or a failing delete publishes a
+ * batch again, never loses it. The rows being relayed stay locked until the batch commits, another
+ * relay waits for them instead of publishing them a second time or out of order. Within one event
+ * the outbox order is the order of the changes: a status change updates the event row, which
+ * waits for the transaction of any earlier change to commit before inserting its own outbox row.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "sport-events.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+public class SportEventOutboxRelay {
+
+    static final String DELETE = "delete from sport_event_outbox where id = ?";
+
+    private static final RowMapper<SportEventOutboxMessage> MESSAGE_MAPPER = (resultSet, rowNumber) ->
+            new SportEventOutboxMessage(
+                    resultSet.getLong("id"),
+                    resultSet.getLong("sport_event_id"),
+                    resultSet.getString("change_type"),
+                    resultSet.getString("payload"),
+                    resultSet.getObject("created_at", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SportEventPublisher publisher;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final String select;
+
+    public SportEventOutboxRelay(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                 SportEventPublisher publisher, SportEventsProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.publisher = publisher;
+        this.batchSize = properties.getOutbox().getBatchSize();
+        this.maxBatchesPerRun = properties.getOutbox().getMaxBatchesPerRun();
+        // The limit is part of the statement, a bind parameter there is not portable
+        this.select = """
+                select id, sport_event_id, change_type, payload, created_at from sport_event_outbox
+                order by id
+                fetch first %d rows only
+                for update""".formatted(batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${sport-events.outbox.poll-interval:PT1S}")
+    public void relay() {
+        try {
+            var batches = 0;
+            int relayed;
+            do {
+                relayed = relayBatch();
+                batches++;
+            } while (relayed == batchSize && batches < maxBatchesPerRun);
+        } catch (RuntimeException e) {
+            log.error("Outbox relay failed, retrying with the next run: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Publishes and deletes the oldest batch, returns its size.
+     */
+    int relayBatch() {
+        var relayed = transactionTemplate.execute(status -> {
+            var messages = jdbcTemplate.query(select, MESSAGE_MAPPER);
+            if (messages.isEmpty()) {
+                return 0;
+            }
+            publisher.publish(messages);
+            jdbcTemplate.batchUpdate(DELETE, messages.stream()
+                    .map(message -> new Object[]{message.getId()})
+                    .toList());
+            return messages.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+}
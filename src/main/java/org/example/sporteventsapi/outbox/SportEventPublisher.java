@@ -0,0 +1,16 @@
+package org.example.sporteventsapi.outbox;
+
+import java.util.List;
+
+/**
+ * Hands relayed changes to downstream systems. The default appends them to a local file, a bean
+ * of this type replaces it, for example one producing to a message broker.
+ */
+public interface SportEventPublisher {
+
+    /**
+     * Publishes {@code messages} in the given order. Returning normally means they are delivered
+     * durably and are removed from the outbox; an exception leaves all of them to be published again.
+     */
+    void publish(List<SportEventOutboxMessage> messages);
+}
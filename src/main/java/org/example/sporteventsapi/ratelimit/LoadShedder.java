@@ -0,0 +1,106 @@
+package org.example.sporteventsapi.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.example.sporteventsapi.config.SportEventsProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adaptive concurrency limit: while requests finish within the latency target and the limit is
+ * actually used, it grows by one per request, once they get slower it shrinks by the backoff ratio,
+ * at most once per latency target so one slow burst does not collapse it. Requests beyond the
+ * limit are shed instead of queueing for database connections. All state is in atomics.
+ */
+public class LoadShedder implements MeterBinder {
+
+    public static final String LIMIT_GAUGE = "sport_events.shedding.limit";
+    public static final String IN_FLIGHT_GAUGE = "sport_events.shedding.in_flight";
+
+    private final boolean enabled;
+
+    private final long latencyTargetNanos;
+
+    private final int minConcurrency;
+
+    private final int maxConcurrency;
+
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger limit;
+
+    private final AtomicLong nextDecrease;
+
+    public LoadShedder(SportEventsProperties.Shedding properties) {
+        this.enabled = properties.isEnabled();
+        this.latencyTargetNanos = properties.getLatencyTarget().toNanos();
+        this.minConcurrency = properties.getMinConcurrency();
+        this.maxConcurrency = properties.getMaxConcurrency();
+        this.backoffRatio = properties.getBackoffRatio();
+        this.limit = new AtomicInteger(maxConcurrency);
+        this.nextDecrease = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Admits a request unless the limit is reached, every admitted request has to be released.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            var current = inFlight.get();
+            if (enabled && current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases an admitted request, a negative latency releases it without adjusting the limit.
+     */
+    public void release(long latencyNanos) {
+        var wasInFlight = inFlight.getAndDecrement();
+        if (!enabled || latencyNanos < 0) {
+            return;
+        }
+        if (latencyNanos > latencyTargetNanos) {
+            var now = System.nanoTime();
+            var next = nextDecrease.get();
+            if (now - next >= 0 && nextDecrease.compareAndSet(next, now + latencyTargetNanos)) {
+                limit.updateAndGet(current -> Math.max(minConcurrency, (int) (current * backoffRatio)));
+            }
+        } else if (wasInFlight * 2 >= limit.get()) {
+            limit.updateAndGet(current -> Math.min(maxConcurrency, current + 1));
+        }
+    }
+
+    /**
+     * Seconds a shed client should wait: one latency target, rounded up to whole seconds.
+     */
+    public long retryAfterSeconds() {
+        return Math.max(1, (latencyTargetNanos + 999_999_999) / 1_000_000_000);
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(LIMIT_GAUGE, limit, AtomicInteger::get)
+                .description("Concurrent sport event requests admitted before shedding")
+                .register(registry);
+        Gauge.builder(IN_FLIGHT_GAUGE, inFlight, AtomicInteger::get)
+                .description("Sport event requests in flight")
+                .register(registry);
+    }
+}
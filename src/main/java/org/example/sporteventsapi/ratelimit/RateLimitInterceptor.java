@@ -0,0 +1,138 @@
+package org.example.sporteventsapi.ratelimit;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.example.sporteventsapi.exception.RateLimitExceededException;
+import org.example.sporteventsapi.exception.ServerOverloadedException;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admits a request if its client has budget left for the route and the load shedder has room,
+ * otherwise it is answered with 429 or 503 and a {@code Retry-After} before any work is done.
+ * <p>
+ * Clients are told apart by their API key, or by remote address when they send none. Keys are
+ * not authenticated here: a client rotating keys gets fresh budgets, the load shedder is what
+ * still protects the database then. Streams and subscriptions hold their slot only until the
+ * response is handed off, their duration is not a latency sample.
+ */
+public class RateLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String STARTED_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".started";
+
+    private final RateLimiter rateLimiter;
+
+    private final LoadShedder loadShedder;
+
+    private final String apiKeyHeader;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter, LoadShedder loadShedder, SportEventsProperties.RateLimit properties) {
+        this.rateLimiter = rateLimiter;
+        this.loadShedder = loadShedder;
+        this.apiKeyHeader = properties.getApiKeyHeader();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Async and error dispatches belong to a request that was admitted already
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        var wait = rateLimiter.tryAcquire(clientOf(request), routeOf(request));
+        if (wait > 0) {
+            throw new RateLimitExceededException(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999)));
+        }
+        if (!loadShedder.tryAcquire()) {
+            throw new ServerOverloadedException(loadShedder.retryAfterSeconds());
+        }
+        request.setAttribute(STARTED_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        release(request, false);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request, true);
+    }
+
+    private void release(HttpServletRequest request, boolean sample) {
+        if (!(request.getAttribute(STARTED_ATTRIBUTE) instanceof Long started)) {
+            return;
+        }
+        request.removeAttribute(STARTED_ATTRIBUTE);
+        loadShedder.release(sample ? System.nanoTime() - started : -1);
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        var apiKey = request.getHeader(apiKeyHeader);
+        return apiKey != null && !apiKey.isBlank() ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+    }
+
+    /**
+     * Streams are charged as the most expensive reads, they run through every matching row.
+     * Listings count as filtered only for parameters that narrow the query: blank or unparsable
+     * values are ignored by the binding or rejected, and do not earn the larger budget.
+     */
+    static RateLimitRoute routeOf(HttpServletRequest request) {
+        var method = HttpMethod.valueOf(request.getMethod());
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return RateLimitRoute.WRITE;
+        }
+        var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern instanceof String path && path.contains("{id}")) {
+            return RateLimitRoute.BY_ID;
+        }
+        // Searches are answered from memory, they never scan the table
+        if (pattern instanceof String path && path.endsWith("/search")) {
+            return RateLimitRoute.FILTERED_LIST;
+        }
+        if (pattern instanceof String path && (path.endsWith("/stream") || path.endsWith("/history"))) {
+            return RateLimitRoute.STREAM;
+        }
+        if (isEnumValue(SportType.class, request.getParameter("type"))
+                || isEnumValue(SportEventStatus.class, request.getParameter("status"))) {
+            return RateLimitRoute.FILTERED_LIST;
+        }
+        if (isDateTime(request.getParameter("from")) || isDateTime(request.getParameter("to"))) {
+            return RateLimitRoute.TIME_RANGE;
+        }
+        return RateLimitRoute.UNFILTERED_LIST;
+    }
+
+    private static <E extends Enum<E>> boolean isEnumValue(Class<E> type, String value) {
+        if (value == null || value.isBlank()) {
+            return false;
+        }
+        try {
+            Enum.valueOf(type, value.trim());
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean isDateTime(String value) {
+        if (value == null || value.isBlank()) {
+            return false;
+        }
+        try {
+            LocalDateTime.parse(value.trim());
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
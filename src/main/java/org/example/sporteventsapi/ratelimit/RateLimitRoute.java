@@ -0,0 +1,26 @@
+package org.example.sporteventsapi.ratelimit;
+
+import org.example.sporteventsapi.config.SportEventsProperties;
+
+/**
+ * Groups of routes with their own budget per client, ordered by how much they cost the database.
+ */
+public enum RateLimitRoute {
+    STREAM,
+    UNFILTERED_LIST,
+    TIME_RANGE,
+    FILTERED_LIST,
+    BY_ID,
+    WRITE;
+
+    SportEventsProperties.Budget budgetOf(SportEventsProperties.RateLimit properties) {
+        return switch (this) {
+            case STREAM -> properties.getStream();
+            case UNFILTERED_LIST -> properties.getUnfilteredList();
+            case TIME_RANGE -> properties.getTimeRange();
+            case FILTERED_LIST -> properties.getFilteredList();
+            case BY_ID -> properties.getById();
+            case WRITE -> properties.getWrite();
+        };
+    }
+}
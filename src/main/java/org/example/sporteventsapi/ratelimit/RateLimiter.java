@@ -0,0 +1,54 @@
+package org.example.sporteventsapi.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.sporteventsapi.config.SportEventsProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * One token bucket per client and route. Buckets live in a bounded Caffeine cache, whose striped
+ * hash table keeps lookups of different clients from contending, and are dropped once a client
+ * has been idle long enough for its bucket to be full anyway.
+ */
+public class RateLimiter {
+
+    private final Map<RateLimitRoute, SportEventsProperties.Budget> budgets = new EnumMap<>(RateLimitRoute.class);
+
+    private final Cache<ClientRoute, TokenBucket> buckets;
+
+    private final LongSupplier clock;
+
+    public RateLimiter(SportEventsProperties.RateLimit properties) {
+        this(properties, System::nanoTime);
+    }
+
+    RateLimiter(SportEventsProperties.RateLimit properties, LongSupplier clock) {
+        for (var route : RateLimitRoute.values()) {
+            budgets.put(route, route.budgetOf(properties));
+        }
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxClients())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+        this.clock = clock;
+    }
+
+    /**
+     * Takes one request from the budget of {@code client} for {@code route}, returns {@code 0}
+     * when it is admitted or the nanoseconds until it would be.
+     */
+    public long tryAcquire(String client, RateLimitRoute route) {
+        var now = clock.getAsLong();
+        var bucket = buckets.get(new ClientRoute(client, route), key -> {
+            var budget = budgets.get(route);
+            return new TokenBucket(budget.getPermitsPerSecond(), budget.getBurst(), now);
+        });
+        return bucket.tryAcquire(now);
+    }
+
+    private record ClientRoute(String client, RateLimitRoute route) {
+    }
+}
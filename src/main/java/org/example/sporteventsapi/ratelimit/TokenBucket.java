@@ -0,0 +1,42 @@
+package org.example.sporteventsapi.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept as a single timestamp, the moment the bucket would be full again (the
+ * generic cell rate algorithm). Taking a token moves that moment one refill interval ahead with
+ * one compare-and-set, so a bucket needs neither a lock nor a refill timer, and a rejection knows
+ * exactly how long the client has to wait.
+ */
+final class TokenBucket {
+
+    private final long refillNanos;
+
+    private final long capacityNanos;
+
+    private final AtomicLong fullAt;
+
+    TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        this.refillNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.capacityNanos = refillNanos * burst;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token, returns {@code 0} on success or the nanoseconds until a token is available.
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            var current = fullAt.get();
+            var next = Math.max(current, nowNanos) + refillNanos;
+            var wait = next - nowNanos - capacityNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.sporteventsapi.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.dto.SportEventFilter;
+import org.example.sporteventsapi.model.SportEventSort;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Non-blocking access to the {@code sport_events} table the JPA mapping owns, used by the
+ * {@code reactive} profile. Listings follow the same filter and keyset rules as
+ * {@link SportEventListingQueries}, so both stacks return the same pages for the same request.
+ * Enum values are bound as strings and cast explicitly, the H2 driver would otherwise send them
+ * as character large objects.
+ */
+@Repository
+@Profile("reactive")
+@AllArgsConstructor
+public class ReactiveSportEventRepository {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    private static final String COLUMNS = "id, name, sport_type, event_status, start_time, version";
+
+    private static final Map<SportEventSort, String> ORDER_BY = new EnumMap<>(Map.of(
+            SportEventSort.ID, " order by id",
+            SportEventSort.START_TIME, " order by start_time, id",
+            SportEventSort.START_TIME_DESC, " order by start_time desc, id"));
+
+    @NonNull
+    private DatabaseClient databaseClient;
+
+    /**
+     * Rows matching {@code filter} that come after {@code after} in {@code sort} order.
+     */
+    public Flux<SportEventDTO> findPage(SportEventFilter filter, SportEventSort sort, SportEventPosition after, int limit) {
+        var where = new StringJoiner(" and ", " where ", "").setEmptyValue("");
+        var parameters = new LinkedHashMap<String, Object>();
+        if (filter.getType() != null) {
+            where.add("sport_type = cast(:type as varchar)");
+            parameters.put("type", filter.getType().name());
+        }
+        if (filter.getStatus() != null) {
+            where.add("event_status = cast(:status as varchar)");
+            parameters.put("status", filter.getStatus().name());
+        }
+        if (filter.getFrom() != null) {
+            where.add("start_time >= :from");
+            parameters.put("from", filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            where.add("start_time < :to");
+            parameters.put("to", filter.getTo());
+        }
+        if (after != null) {
+            where.add(switch (sort) {
+                case ID -> "id > :afterId";
+                case START_TIME -> "(start_time > :afterTime or (start_time = :afterTime and id > :afterId))";
+                case START_TIME_DESC -> "(start_time < :afterTime or (start_time = :afterTime and id > :afterId))";
+            });
+            parameters.put("afterId", after.id());
+            if (sort != SportEventSort.ID) {
+                parameters.put("afterTime", after.startTime());
+            }
+        }
+        parameters.put("limit", limit);
+
+        var spec = databaseClient.sql("select " + COLUMNS + " from sport_events" + where + ORDER_BY.get(sort) + " limit :limit");
+        for (var parameter : parameters.entrySet()) {
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+        return spec.map(ReactiveSportEventRepository::toDto).all();
+    }
+
+    public Flux<SportEventDTO> streamAll(SportType type, SportEventStatus status) {
+        return findPage(SportEventFilter.builder().type(type).status(status).build(), SportEventSort.ID, null, Integer.MAX_VALUE);
+    }
+
+    public Mono<SportEventDTO> findById(long id) {
+        return databaseClient.sql("select " + COLUMNS + " from sport_events where id = :id")
+                .bind("id", id)
+                .map(ReactiveSportEventRepository::toDto)
+                .one();
+    }
+
+    /**
+     * Inserts a new event with version 0. Every insert takes a whole block of the pooled
+     * {@code sport_events_seq} and uses its upper bound, a value Hibernate never hands out
+     * once this side has drawn the block, so both stacks can write to the same table.
+     */
+    public Mono<SportEventDTO> insert(SportEventDTO sportEvent) {
+        return databaseClient.sql(nextIdSql())
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .flatMap(id -> databaseClient.sql("""
+                                insert into sport_events (id, name, sport_type, event_status, start_time, version)
+                                values (:id, :name, cast(:type as varchar), cast(:status as varchar), :startTime, 0)""")
+                        .bind("id", id)
+                        .bind("name", sportEvent.getName())
+                        .bind("type", sportEvent.getSportType().name())
+                        .bind("status", sportEvent.getEventStatus().name())
+                        .bind("startTime", sportEvent.getStartTime())
+                        .fetch()
+                        .rowsUpdated()
+                        .thenReturn(sportEvent.toBuilder().id(id).version(0L).build()));
+    }
+
+    /**
+     * Same guard as {@link SportEventRepository#updateEventStatusIfUnchanged}: emits 0 when the
+     * event was changed since {@code version} was read.
+     */
+    public Mono<Long> updateEventStatusIfUnchanged(long id, long version, SportEventStatus newStatus) {
+        return databaseClient.sql("""
+                        update sport_events set event_status = cast(:newStatus as varchar), version = version + 1
+                        where id = :id and version = :version""")
+                .bind("newStatus", newStatus.name())
+                .bind("id", id)
+                .bind("version", version)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private String nextIdSql() {
+        return POSTGRESQL.equals(databaseClient.getConnectionFactory().getMetadata().getName())
+                ? "select nextval('sport_events_seq')"
+                : "select next value for sport_events_seq";
+    }
+
+    private static SportEventDTO toDto(Readable row) {
+        return new SportEventDTO(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                SportType.valueOf(row.get("sport_type", String.class)),
+                SportEventStatus.valueOf(row.get("event_status", String.class)),
+                row.get("start_time", LocalDateTime.class),
+                row.get("version", Long.class));
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.sporteventsapi.repository;
+
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.model.SportEventStatus;
+
+import java.util.List;
+
+/**
+ * Writes to many events at once that still check every row on its own.
+ */
+public interface SportEventBulkUpdateRepository {
+
+    /**
+     * Compare-and-set status change of every event in {@code sportEvents}, sent as one JDBC batch.
+     * A row only changes while it still has the version it was read with, so the new version of a
+     * changed event is always its read version plus one. Versions are never null, the column is
+     * {@code not null} and every event is read from the database. Returns for every event, in the given
+     * order, whether it was changed.
+     */
+    boolean[] updateEventStatusesIfUnchanged(List<SportEventDTO> sportEvents, SportEventStatus newStatus);
+}
@@ -0,0 +1,35 @@
+package org.example.sporteventsapi.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@AllArgsConstructor
+class SportEventBulkUpdateRepositoryImpl implements SportEventBulkUpdateRepository {
+
+    private static final String UPDATE_EVENT_STATUS_IF_UNCHANGED = """
+            update sport_events set event_status = ?, version = version + 1
+            where id = ? and version = ?""";
+
+    @NonNull
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean[] updateEventStatusesIfUnchanged(List<SportEventDTO> sportEvents, SportEventStatus newStatus) {
+        var rows = new ArrayList<Object[]>(sportEvents.size());
+        for (var sportEvent : sportEvents) {
+            rows.add(new Object[]{newStatus.name(), sportEvent.getId(), sportEvent.getVersion()});
+        }
+        var counts = jdbcTemplate.batchUpdate(UPDATE_EVENT_STATUS_IF_UNCHANGED, rows);
+        var changed = new boolean[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            changed[i] = counts[i] == 1;
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.sporteventsapi.repository;
+
+import org.example.sporteventsapi.dto.SportEventFilter;
+import org.example.sporteventsapi.model.SportEventSort;
+
+import java.util.StringJoiner;
+
+/**
+ * JPQL of the listing queries, one string per combination of set criteria and sort order, all
+ * built once. Only the criteria that are set end up in the {@code where} clause and every value
+ * is a parameter, so a request just picks its string and binds values: Hibernate translates
+ * each string once and serves it from its query plan cache afterwards.
+ */
+final class SportEventListingQueries {
+
+    static final String TYPE = "type";
+    static final String STATUS = "status";
+    static final String FROM = "from";
+    static final String TO = "to";
+    static final String AFTER_ID = "afterId";
+    static final String AFTER_TIME = "afterTime";
+
+    private static final int TYPE_SET = 1;
+    private static final int STATUS_SET = 1 << 1;
+    private static final int FROM_SET = 1 << 2;
+    private static final int TO_SET = 1 << 3;
+    private static final int AFTER_SET = 1 << 4;
+    private static final int SHAPES = 1 << 5;
+
+    // Constructor arguments follow the SportEventDTO all-args constructor
+    private static final String SELECT = """
+            select new org.example.sporteventsapi.dto.SportEventDTO(
+                e.id, e.name, e.sportType, e.eventStatus, e.startTime, e.version)
+            from SportEvent e""";
+
+    private static final String[][] QUERIES = new String[SportEventSort.values().length][SHAPES];
+
+    static {
+        for (var sort : SportEventSort.values()) {
+            for (int shape = 0; shape < SHAPES; shape++) {
+                QUERIES[sort.ordinal()][shape] = build(sort, shape);
+            }
+        }
+    }
+
+    private SportEventListingQueries() {
+    }
+
+    /**
+     * Rows matching {@code filter} that come after {@code after} in {@code sort} order.
+     */
+    static String of(SportEventFilter filter, SportEventSort sort, SportEventPosition after) {
+        var shape = (filter.getType() == null ? 0 : TYPE_SET)
+                | (filter.getStatus() == null ? 0 : STATUS_SET)
+                | (filter.getFrom() == null ? 0 : FROM_SET)
+                | (filter.getTo() == null ? 0 : TO_SET)
+                | (after == null ? 0 : AFTER_SET);
+        return QUERIES[sort.ordinal()][shape];
+    }
+
+    private static String build(SportEventSort sort, int shape) {
+        var where = new StringJoiner(" and ", " where ", "").setEmptyValue("");
+        if ((shape & TYPE_SET) != 0) {
+            where.add("e.sportType = :" + TYPE);
+        }
+        if ((shape & STATUS_SET) != 0) {
+            where.add("e.eventStatus = :" + STATUS);
+        }
+        if ((shape & FROM_SET) != 0) {
+            where.add("e.startTime >= :" + FROM);
+        }
+        if ((shape & TO_SET) != 0) {
+            where.add("e.startTime < :" + TO);
+        }
+        if ((shape & AFTER_SET) != 0) {
+            where.add(switch (sort) {
+                case ID -> "e.id > :afterId";
+                case START_TIME -> "(e.startTime > :afterTime or (e.startTime = :afterTime and e.id > :afterId))";
+                case START_TIME_DESC -> "(e.startTime < :afterTime or (e.startTime = :afterTime and e.id > :afterId))";
+            });
+        }
+        var orderBy = switch (sort) {
+            case ID -> " order by e.id";
+            case START_TIME -> " order by e.startTime, e.id";
+            case START_TIME_DESC -> " order by e.startTime desc, e.id";
+        };
+        return SELECT + where + orderBy;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.sporteventsapi.repository;
+
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.dto.SportEventFilter;
+import org.example.sporteventsapi.model.SportEventSort;
+
+import java.util.List;
+
+/**
+ * Read-only listings selected straight into {@link SportEventDTO}s: no managed entities, no
+ * persistence context snapshots and no mapping pass.
+ */
+public interface SportEventListingRepository {
+
+    /**
+     * One page of a listing in keyset order: rows after {@code after}, or from the start when it is {@code null}.
+     */
+    List<SportEventDTO> findPage(SportEventFilter filter, SportEventSort sort, SportEventPosition after, int limit);
+}
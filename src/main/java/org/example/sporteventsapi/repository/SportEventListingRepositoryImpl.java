@@ -0,0 +1,45 @@
+package org.example.sporteventsapi.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.dto.SportEventFilter;
+import org.example.sporteventsapi.model.SportEventSort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.example.sporteventsapi.repository.SportEventListingQueries.*;
+
+@AllArgsConstructor
+class SportEventListingRepositoryImpl implements SportEventListingRepository {
+
+    @NonNull
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SportEventDTO> findPage(SportEventFilter filter, SportEventSort sort, SportEventPosition after, int limit) {
+        var query = entityManager.createQuery(SportEventListingQueries.of(filter, sort, after), SportEventDTO.class);
+        if (filter.getType() != null) {
+            query.setParameter(TYPE, filter.getType());
+        }
+        if (filter.getStatus() != null) {
+            query.setParameter(STATUS, filter.getStatus());
+        }
+        if (filter.getFrom() != null) {
+            query.setParameter(FROM, filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            query.setParameter(TO, filter.getTo());
+        }
+        if (after != null) {
+            query.setParameter(AFTER_ID, after.id());
+            if (sort != SportEventSort.ID) {
+                query.setParameter(AFTER_TIME, after.startTime());
+            }
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
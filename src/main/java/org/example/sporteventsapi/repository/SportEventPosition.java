@@ -0,0 +1,10 @@
+package org.example.sporteventsapi.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sort key of the last row of a page, the next page starts right after it. {@code startTime}
+ * is only set when the listing is ordered by start time.
+ */
+public record SportEventPosition(LocalDateTime startTime, long id) {
+}
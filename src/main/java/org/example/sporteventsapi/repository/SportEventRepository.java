@@ -1,20 +1,65 @@
 package org.example.sporteventsapi.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.sporteventsapi.dto.SportEventDTO;
 import org.example.sporteventsapi.model.SportEvent;
 import org.example.sporteventsapi.model.SportEventStatus;
 import org.example.sporteventsapi.model.SportType;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface SportEventRepository extends JpaRepository<SportEvent, Long> {
+public interface SportEventRepository extends JpaRepository<SportEvent, Long>, SportEventListingRepository,
+        SportEventBulkUpdateRepository {
 
-    List<SportEvent> findAllBySportTypeAndEventStatus(SportType type, SportEventStatus status);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new org.example.sporteventsapi.dto.SportEventDTO(
+                e.id, e.name, e.sportType, e.eventStatus, e.startTime, e.version)
+            from SportEvent e
+            where (:type is null or e.sportType = :type)
+              and (:status is null or e.eventStatus = :status)
+            order by e.id""")
+    Stream<SportEventDTO> streamAll(@Param("type") SportType type, @Param("status") SportEventStatus status);
 
-    List<SportEvent> findAllByEventStatus(SportEventStatus status);
+    /**
+     * At most {@code limit} events in {@code status}, callers pass one more than they accept to
+     * detect an oversized selection without loading all of it.
+     */
+    @Query("""
+            select e from SportEvent e
+            where (:type is null or e.sportType = :type)
+              and e.eventStatus = :status""")
+    List<SportEvent> findAllByEventStatus(@Param("type") SportType type, @Param("status") SportEventStatus status,
+                                          Limit limit);
 
-    List<SportEvent> findAllBySportType(SportType type);
+    @Query("""
+            select e.id as id, e.eventStatus as eventStatus, e.startTime as startTime from SportEvent e
+            where e.eventStatus in :statuses and e.id > :afterId
+            order by e.id""")
+    List<SportEventSchedule> findSchedules(@Param("statuses") Collection<SportEventStatus> statuses,
+                                           @Param("afterId") long afterId,
+                                           Limit limit);
+
+    /**
+     * Compare-and-set status change: only succeeds when nobody updated the row since it was read.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update SportEvent e set e.eventStatus = :newStatus, e.version = e.version + 1
+            where e.id = :id and e.version = :version""")
+    int updateEventStatusIfUnchanged(@Param("id") Long id,
+                                     @Param("version") Long version,
+                                     @Param("newStatus") SportEventStatus newStatus);
 
 }
@@ -0,0 +1,16 @@
+package org.example.sporteventsapi.repository;
+
+import org.example.sporteventsapi.model.SportEventStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection with just the columns the status lifecycle needs.
+ */
+public interface SportEventSchedule {
+    Long getId();
+
+    SportEventStatus getEventStatus();
+
+    LocalDateTime getStartTime();
+}
@@ -0,0 +1,53 @@
+package org.example.sporteventsapi.repository;
+
+import jakarta.persistence.QueryHint;
+import org.example.sporteventsapi.dto.SportEventStatusChangeDTO;
+import org.example.sporteventsapi.model.SportEventStatusChange;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface SportEventStatusChangeRepository extends JpaRepository<SportEventStatusChange, Long> {
+
+    @Query("""
+            select new org.example.sporteventsapi.dto.SportEventStatusChangeDTO(
+                c.sportEventId, c.fromStatus, c.toStatus, c.changedAt, c.version)
+            from SportEventStatusChange c
+            where c.sportEventId = :sportEventId
+            order by c.version, c.id""")
+    List<SportEventStatusChangeDTO> findHistory(@Param("sportEventId") Long sportEventId);
+
+    /**
+     * Every change up to {@code until}, grouped by event and in order within each event, read
+     * along the {@code (sport_event_id, version)} index.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new org.example.sporteventsapi.dto.SportEventStatusChangeDTO(
+                c.sportEventId, c.fromStatus, c.toStatus, c.changedAt, c.version)
+            from SportEventStatusChange c
+            where c.changedAt <= :until
+            order by c.sportEventId, c.version, c.id""")
+    Stream<SportEventStatusChangeDTO> streamUntil(@Param("until") LocalDateTime until);
+
+    /**
+     * Same as {@link #streamUntil} for the changes made after {@code after}, what a replay reads on
+     * top of a snapshot taken at {@code after}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new org.example.sporteventsapi.dto.SportEventStatusChangeDTO(
+                c.sportEventId, c.fromStatus, c.toStatus, c.changedAt, c.version)
+            from SportEventStatusChange c
+            where c.changedAt > :after and c.changedAt <= :until
+            order by c.sportEventId, c.version, c.id""")
+    Stream<SportEventStatusChangeDTO> streamBetween(@Param("after") LocalDateTime after, @Param("until") LocalDateTime until);
+}
@@ -0,0 +1,80 @@
+package org.example.sporteventsapi.service;
+
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.exception.InvalidRequestParameterException;
+import org.example.sporteventsapi.model.SportEventSort;
+import org.example.sporteventsapi.repository.SportEventPosition;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination. Clients must treat it as a black box,
+ * internally it is a tag of the sort order followed by the sort key of the last event of the
+ * previous page: the id, preceded by the start time when the listing is ordered by start time.
+ */
+final class PageCursor {
+
+    static final String PARAMETER_NAME = "cursor";
+
+    private static final int ID_LENGTH = 1 + Long.BYTES;
+    private static final int START_TIME_LENGTH = 1 + Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private PageCursor() {
+    }
+
+    static String encode(SportEventDTO last, SportEventSort sort) {
+        if (sort == SportEventSort.ID) {
+            return ENCODER.encodeToString(ByteBuffer.allocate(ID_LENGTH)
+                    .put(tagOf(sort))
+                    .putLong(last.getId())
+                    .array());
+        }
+        var startTime = last.getStartTime();
+        return ENCODER.encodeToString(ByteBuffer.allocate(START_TIME_LENGTH)
+                .put(tagOf(sort))
+                .putLong(startTime.toEpochSecond(ZoneOffset.UTC))
+                .putInt(startTime.getNano())
+                .putLong(last.getId())
+                .array());
+    }
+
+    /**
+     * Position to continue after, {@code null} for the first page. A cursor issued for another
+     * sort order is rejected, it would skip or repeat rows, even when both orders share the layout
+     * of their sort key.
+     */
+    static SportEventPosition decode(String cursor, SportEventSort sort) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            var bytes = ByteBuffer.wrap(DECODER.decode(cursor));
+            if (bytes.hasRemaining() && bytes.get(0) != tagOf(sort)) {
+                throw new InvalidRequestParameterException(PARAMETER_NAME, cursor, "issued for another sort order");
+            }
+            if (sort == SportEventSort.ID && bytes.remaining() == ID_LENGTH) {
+                bytes.get();
+                return new SportEventPosition(null, bytes.getLong());
+            }
+            if (sort != SportEventSort.ID && bytes.remaining() == START_TIME_LENGTH) {
+                bytes.get();
+                var startTime = LocalDateTime.ofEpochSecond(bytes.getLong(), bytes.getInt(), ZoneOffset.UTC);
+                return new SportEventPosition(startTime, bytes.getLong());
+            }
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidRequestParameterException(PARAMETER_NAME, cursor);
+        }
+        throw new InvalidRequestParameterException(PARAMETER_NAME, cursor);
+    }
+
+    private static byte tagOf(SportEventSort sort) {
+        return (byte) sort.ordinal();
+    }
+}
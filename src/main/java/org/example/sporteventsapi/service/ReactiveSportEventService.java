@@ -0,0 +1,167 @@
+package org.example.sporteventsapi.service;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.dto.SportEventFilter;
+import org.example.sporteventsapi.dto.SportEventPage;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.example.sporteventsapi.exception.ConflictException;
+import org.example.sporteventsapi.exception.InvalidRequestParameterException;
+import org.example.sporteventsapi.exception.InvalidStatusChangeException;
+import org.example.sporteventsapi.exception.NoRecordFoundException;
+import org.example.sporteventsapi.history.ReactiveSportEventHistoryWriter;
+import org.example.sporteventsapi.metrics.SportEventMetrics;
+import org.example.sporteventsapi.model.SportEventSort;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.outbox.ReactiveSportEventOutbox;
+import org.example.sporteventsapi.repository.ReactiveSportEventRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking counterpart of {@link SportEventService} for the {@code reactive} profile. It
+ * applies the same {@link StatusTransitions}, cursors and limits, and publishes the same
+ * {@link SportEventChangedEvent}s, so the index, cache and feed stay in sync with either stack.
+ */
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class ReactiveSportEventService {
+
+    @NonNull
+    private ReactiveSportEventRepository sportEventRepository;
+
+    @NonNull
+    private SportEventsProperties properties;
+
+    @NonNull
+    private ApplicationEventPublisher eventPublisher;
+
+    @NonNull
+    private SportEventMetrics metrics;
+
+    @NonNull
+    private ReactiveSportEventOutbox outbox;
+
+    @NonNull
+    private ReactiveSportEventHistoryWriter historyWriter;
+
+    @NonNull
+    private TransactionalOperator transactionalOperator;
+
+    /**
+     * The event and its outbox and history rows are inserted in one R2DBC transaction, the change
+     * is published once it committed.
+     */
+    public Mono<SportEventDTO> createSportEvent(SportEventDTO sportEventDTO) {
+        return sportEventRepository.insert(sportEventDTO)
+                .map(created -> new SportEventChangedEvent(null, created))
+                .flatMap(change -> record(change).thenReturn(change))
+                .as(transactionalOperator::transactional)
+                .doOnNext(change -> eventPublisher.publishEvent(change.withRecorded(true)))
+                .map(SportEventChangedEvent::getCurrent);
+    }
+
+    public Mono<SportEventPage> getSportEvents(SportEventFilter filter, SportEventSort sort, String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            if (filter.getFrom() != null && filter.getTo() != null && !filter.getFrom().isBefore(filter.getTo())) {
+                throw new InvalidRequestParameterException("to", filter.getTo());
+            }
+            var order = sort == null ? SportEventSort.ID : sort;
+            var after = PageCursor.decode(cursor, order);
+            var pageSize = resolveLimit(limit);
+
+            var start = System.nanoTime();
+            return sportEventRepository.findPage(filter, order, after, pageSize + 1)
+                    .collectList()
+                    .map(events -> {
+                        metrics.recordQuery(filter.getType(), filter.getStatus(), "r2dbc",
+                                System.nanoTime() - start, events.size());
+                        var hasMore = events.size() > pageSize;
+                        var items = hasMore ? events.subList(0, pageSize) : events;
+                        var nextCursor = hasMore ? PageCursor.encode(items.get(items.size() - 1), order) : null;
+                        return new SportEventPage(items, nextCursor);
+                    });
+        });
+    }
+
+    public Flux<SportEventDTO> streamSportEvents(SportType type, SportEventStatus status) {
+        return sportEventRepository.streamAll(type, status);
+    }
+
+    public Mono<SportEventDTO> getSportEventById(Long id) {
+        return sportEventRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new NoRecordFoundException("Sport Event", "id", id.toString())));
+    }
+
+    /**
+     * Same read-validate-write as {@link SportEventService#changeEventStatus}: a version guarded
+     * update that is re-read and validated again when another transition got in first. The
+     * update and its outbox and history rows commit together.
+     */
+    public Mono<SportEventDTO> changeEventStatus(Long id, SportEventStatus newStatus) {
+        var now = LocalDateTime.now();
+        return changeEventStatus(id, newStatus, now, 1);
+    }
+
+    private Mono<SportEventDTO> changeEventStatus(Long id, SportEventStatus newStatus, LocalDateTime now, int attempt) {
+        return sportEventRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> {
+                    metrics.statusChangeRejected(NoRecordFoundException.class, null, newStatus);
+                    return new NoRecordFoundException("Sport Event", "id", id.toString());
+                }))
+                .flatMap(previous -> {
+                    try {
+                        StatusTransitions.validate(previous.getEventStatus(), previous.getStartTime(), newStatus, now);
+                    } catch (InvalidStatusChangeException e) {
+                        metrics.statusChangeRejected(InvalidStatusChangeException.class, e.getCurrentStatus(), e.getAttemptedStatus());
+                        return Mono.error(e);
+                    }
+                    var updated = previous.toBuilder()
+                            .eventStatus(newStatus)
+                            .version(previous.getVersion() + 1)
+                            .build();
+                    var change = new SportEventChangedEvent(previous, updated);
+                    return sportEventRepository.updateEventStatusIfUnchanged(id, previous.getVersion(), newStatus)
+                            .flatMap(updatedRows -> updatedRows == 1
+                                    ? record(change).thenReturn(true)
+                                    : Mono.just(false))
+                            .as(transactionalOperator::transactional)
+                            .flatMap(changed -> {
+                                if (changed) {
+                                    eventPublisher.publishEvent(change.withRecorded(true));
+                                    return Mono.just(updated);
+                                }
+                                if (attempt >= properties.getStatusChange().getMaxAttempts()) {
+                                    metrics.statusChangeRejected(ConflictException.class, previous.getEventStatus(), newStatus);
+                                    return Mono.error(new ConflictException("Sport Event", id));
+                                }
+                                return changeEventStatus(id, newStatus, now, attempt + 1);
+                            });
+                });
+    }
+
+    private Mono<Void> record(SportEventChangedEvent change) {
+        return outbox.record(change).then(historyWriter.record(change));
+    }
+
+    private int resolveLimit(Integer limit) {
+        var pagination = properties.getPagination();
+        if (limit == null) {
+            return pagination.getDefaultLimit();
+        }
+        if (limit < 1) {
+            throw new InvalidRequestParameterException("limit", limit);
+        }
+        return Math.min(limit, pagination.getMaxLimit());
+    }
+}
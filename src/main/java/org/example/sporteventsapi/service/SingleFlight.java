@@ -0,0 +1,75 @@
+package org.example.sporteventsapi.service;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import org.example.sporteventsapi.metrics.SportEventMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical loads: the first caller for a key runs the load, callers that
+ * arrive while it is in flight wait for it and share its result or its exception. Nothing is kept
+ * once the load finishes, the next caller loads again.
+ * <p>
+ * A caller that joins a load gets what that load read, which may predate changes committed before
+ * the caller arrived, up to one load duration old. Use it only for reads that tolerate that, not
+ * where a client expects to read its own writes.
+ * <p>
+ * Shared results are handed to several callers and must not be modified.
+ */
+@Component
+@AllArgsConstructor
+public class SingleFlight {
+
+    @NonNull
+    private SportEventMetrics metrics;
+
+    private final Map<Flight, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> load) {
+        var flight = new Flight(operation, key);
+        var pending = new CompletableFuture<>();
+        var existing = inFlight.putIfAbsent(flight, pending);
+        if (existing != null) {
+            metrics.singleFlight(operation, true);
+            return (T) join(existing);
+        }
+        metrics.singleFlight(operation, false);
+
+        T result;
+        try {
+            result = load.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(flight, pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+        // Removed before completing, so late callers start a fresh load rather than take this one
+        inFlight.remove(flight, pending);
+        pending.complete(result);
+        return result;
+    }
+
+    private static Object join(CompletableFuture<Object> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Flight(String operation, Object key) {
+    }
+}
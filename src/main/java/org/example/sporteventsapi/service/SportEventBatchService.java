@@ -0,0 +1,214 @@
+package org.example.sporteventsapi.service;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.example.sporteventsapi.dto.SportEventBatchResult;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.dto.SportEventStatusChangeRequest;
+import org.example.sporteventsapi.dto.SportEventStatusChangeResult;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.example.sporteventsapi.exception.ConflictException;
+import org.example.sporteventsapi.exception.InvalidRequestParameterException;
+import org.example.sporteventsapi.exception.InvalidStatusChangeException;
+import org.example.sporteventsapi.exception.NoRecordFoundException;
+import org.example.sporteventsapi.mapping.SportEventMapper;
+import org.example.sporteventsapi.metrics.SportEventMetrics;
+import org.example.sporteventsapi.model.SportEvent;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.repository.SportEventRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+@Timed(SportEventService.SERVICE_TIMER)
+public class SportEventBatchService {
+
+    private static final String VALIDATION_FAILED_DETAIL = "One or more fields are invalid!";
+    private static final String CONCURRENT_CHANGE_REASON = "Event status was changed concurrently";
+    private static final String CONSTRAINT_VIOLATED_DETAIL = "Could not be stored: conflicts with stored data";
+    private static final String STORE_FAILED_DETAIL = "Could not be stored";
+
+    @NonNull
+    private SportEventRepository sportEventRepository;
+
+    @NonNull
+    private EntityManager entityManager;
+
+    @NonNull
+    private TransactionTemplate transactionTemplate;
+
+    @NonNull
+    private Validator validator;
+
+    @NonNull
+    private SportEventsProperties properties;
+
+    @NonNull
+    private ApplicationEventPublisher eventPublisher;
+
+    @NonNull
+    private SportEventMetrics metrics;
+
+    /**
+     * Validates every item on its own and inserts the valid ones in chunks, one transaction per chunk.
+     * A failing chunk is rolled back and reported item by item, the other chunks are kept. The
+     * items only get a fixed detail, the driver message with table and constraint names is logged.
+     */
+    public SportEventBatchResult createSportEvents(List<SportEventDTO> sportEvents) {
+        var batch = properties.getBatch();
+        if (sportEvents.size() > batch.getMaxSize()) {
+            throw new InvalidRequestParameterException("size", sportEvents.size());
+        }
+
+        var errors = new ArrayList<SportEventBatchResult.ItemError>();
+        var valid = new ArrayList<IndexedItem>(sportEvents.size());
+        for (int i = 0; i < sportEvents.size(); i++) {
+            var fieldErrors = validate(sportEvents.get(i));
+            if (fieldErrors.isEmpty()) {
+                valid.add(new IndexedItem(i, sportEvents.get(i)));
+            } else {
+                errors.add(new SportEventBatchResult.ItemError(i, VALIDATION_FAILED_DETAIL, fieldErrors));
+            }
+        }
+
+        var created = new ArrayList<SportEventDTO>(valid.size());
+        for (int from = 0; from < valid.size(); from += batch.getChunkSize()) {
+            var chunk = valid.subList(from, Math.min(from + batch.getChunkSize(), valid.size()));
+            try {
+                created.addAll(transactionTemplate.execute(status -> insertChunk(chunk)));
+            } catch (DataAccessException e) {
+                log.error("Batch chunk of {} events could not be stored: {}", chunk.size(), e.getMessage(), e);
+                var detail = e instanceof DataIntegrityViolationException ? CONSTRAINT_VIOLATED_DETAIL : STORE_FAILED_DETAIL;
+                chunk.forEach(item -> errors.add(new SportEventBatchResult.ItemError(item.index(), detail, null)));
+            }
+        }
+
+        errors.sort(Comparator.comparingInt(SportEventBatchResult.ItemError::getIndex));
+        return new SportEventBatchResult(created, errors);
+    }
+
+    /**
+     * Applies the regular transition rules to every selected event and changes the accepted ones
+     * in one JDBC batch, every row guarded by the version it was read with. Events changed
+     * concurrently between the read and the update are reported as rejected instead of being
+     * overwritten.
+     */
+    @Transactional
+    public SportEventStatusChangeResult changeEventStatuses(SportEventStatusChangeRequest request) {
+        var newStatus = request.getNewStatus();
+        var maxSize = properties.getBatch().getMaxSize();
+        var byIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (byIds && request.getIds().size() > maxSize) {
+            throw new InvalidRequestParameterException("size", request.getIds().size());
+        }
+        var candidates = byIds
+                ? findAllById(request.getIds())
+                : sportEventRepository.findAllByEventStatus(request.getSportType(), request.getCurrentStatus(), Limit.of(maxSize + 1));
+        if (candidates.size() > maxSize) {
+            throw new InvalidRequestParameterException("size", candidates.size());
+        }
+
+        var rejected = new ArrayList<SportEventStatusChangeResult.Rejection>();
+        if (request.getIds() != null) {
+            var found = candidates.stream().map(SportEvent::getId).collect(Collectors.toSet());
+            request.getIds().stream()
+                    .filter(id -> !found.contains(id))
+                    .distinct()
+                    .forEach(id -> {
+                        metrics.statusChangeRejected(NoRecordFoundException.class, null, newStatus);
+                        rejected.add(new SportEventStatusChangeResult.Rejection(id,
+                                new NoRecordFoundException("Sport Event", "id", id).getMessage()));
+                    });
+        }
+
+        var now = LocalDateTime.now();
+        var accepted = new ArrayList<SportEventDTO>(candidates.size());
+        for (var sportEvent : candidates) {
+            try {
+                StatusTransitions.validate(sportEvent.getEventStatus(), sportEvent.getStartTime(), newStatus, now);
+                accepted.add(SportEventMapper.INSTANCE.toDto(sportEvent));
+            } catch (InvalidStatusChangeException e) {
+                metrics.statusChangeRejected(InvalidStatusChangeException.class, e.getCurrentStatus(), e.getAttemptedStatus());
+                rejected.add(new SportEventStatusChangeResult.Rejection(sportEvent.getId(), e.getMessage()));
+            }
+        }
+
+        var updated = new ArrayList<SportEventDTO>(accepted.size());
+        if (accepted.isEmpty()) {
+            return new SportEventStatusChangeResult(updated, rejected);
+        }
+        var changed = sportEventRepository.updateEventStatusesIfUnchanged(accepted, newStatus);
+        for (int i = 0; i < accepted.size(); i++) {
+            var previous = accepted.get(i);
+            if (!changed[i]) {
+                metrics.statusChangeRejected(ConflictException.class, previous.getEventStatus(), newStatus);
+                rejected.add(new SportEventStatusChangeResult.Rejection(previous.getId(), CONCURRENT_CHANGE_REASON));
+                continue;
+            }
+            var current = previous.toBuilder()
+                    .eventStatus(newStatus)
+                    .version(previous.getVersion() + 1)
+                    .build();
+            updated.add(current);
+            eventPublisher.publishEvent(new SportEventChangedEvent(previous, current));
+        }
+        return new SportEventStatusChangeResult(updated, rejected);
+    }
+
+    /**
+     * Loads the events in chunks, a single {@code in} list of up to {@code batch.max-size} ids
+     * would exceed the bind parameter limit of the database (32767 on PostgreSQL).
+     */
+    private List<SportEvent> findAllById(List<Long> ids) {
+        var chunkSize = properties.getBatch().getChunkSize();
+        var sportEvents = new ArrayList<SportEvent>(ids.size());
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            sportEvents.addAll(sportEventRepository.findAllById(ids.subList(from, Math.min(from + chunkSize, ids.size()))));
+        }
+        return sportEvents;
+    }
+
+    private List<SportEventDTO> insertChunk(List<IndexedItem> chunk) {
+        var entities = chunk.stream()
+                .map(item -> SportEventMapper.INSTANCE.toEntity(item.sportEvent()))
+                .toList();
+        sportEventRepository.saveAll(entities);
+        sportEventRepository.flush();
+
+        var created = SportEventMapper.INSTANCE.toDtoList(entities);
+        entityManager.clear();
+        created.forEach(sportEvent -> eventPublisher.publishEvent(new SportEventChangedEvent(null, sportEvent)));
+        return created;
+    }
+
+    private List<Map<String, String>> validate(SportEventDTO sportEvent) {
+        if (sportEvent == null) {
+            return List.of(Map.of("field", "", "message", "Sport event must not be null"));
+        }
+        return validator.validate(sportEvent).stream()
+                .map(violation -> Map.of("field", violation.getPropertyPath().toString(), "message", violation.getMessage()))
+                .toList();
+    }
+
+    private record IndexedItem(int index, SportEventDTO sportEvent) {
+    }
+}
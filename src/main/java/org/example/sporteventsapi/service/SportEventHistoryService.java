@@ -0,0 +1,133 @@
+package org.example.sporteventsapi.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import org.example.sporteventsapi.dto.SportEventStatusChangeDTO;
+import org.example.sporteventsapi.exception.NoRecordFoundException;
+import org.example.sporteventsapi.history.SportEventStatusSnapshots;
+import org.example.sporteventsapi.repository.SportEventRepository;
+import org.example.sporteventsapi.repository.SportEventStatusChangeRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Reads the status log, which holds every change as soon as its transaction committed.
+ */
+@Service
+@AllArgsConstructor
+@Timed(SportEventService.SERVICE_TIMER)
+public class SportEventHistoryService {
+
+    @NonNull
+    private SportEventStatusChangeRepository statusChangeRepository;
+
+    @NonNull
+    private SportEventRepository sportEventRepository;
+
+    @NonNull
+    private SportEventStatusSnapshots snapshots;
+
+    @NonNull
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Status transitions of one event, oldest first.
+     */
+    public List<SportEventStatusChangeDTO> getHistory(Long id) {
+        var history = statusChangeRepository.findHistory(id);
+        if (history.isEmpty() && !sportEventRepository.existsById(id)) {
+            throw new NoRecordFoundException("Sport Event", "id", id.toString());
+        }
+        return history;
+    }
+
+    /**
+     * Rebuilds the status of every event as of {@code at} and pushes the last change of each event
+     * to {@code consumer}, in id order. The replay starts from the latest snapshot taken at or
+     * before {@code at} and reads only the log after it, the whole log when there is no snapshot.
+     * Both are read once in id order and merged holding one row of each, so the replay streams in
+     * constant memory however many events there are.
+     */
+    public void replay(LocalDateTime at, Consumer<SportEventStatusChangeDTO> consumer) {
+        var until = at == null ? LocalDateTime.now() : at;
+        transactionTemplate.executeWithoutResult(status -> {
+            var snapshot = snapshots.latestAt(until);
+            try (var base = snapshot.map(snapshots::stream).orElseGet(Stream::empty);
+                 var changes = snapshot.isPresent()
+                         ? statusChangeRepository.streamBetween(snapshot.get(), until)
+                         : statusChangeRepository.streamUntil(until)) {
+                merge(base.iterator(), new LastChanges(changes.iterator()), consumer);
+            }
+        });
+    }
+
+    /**
+     * Pushes the last change of every event, or its snapshot row when it has not changed since.
+     * Both iterators hold one row per event in id order.
+     */
+    private static void merge(Iterator<SportEventStatusChangeDTO> base, Iterator<SportEventStatusChangeDTO> changes,
+                              Consumer<SportEventStatusChangeDTO> consumer) {
+        var snapshotted = base.hasNext() ? base.next() : null;
+        var changed = changes.hasNext() ? changes.next() : null;
+        while (snapshotted != null || changed != null) {
+            var order = snapshotted == null ? 1
+                    : changed == null ? -1
+                    : Long.compare(snapshotted.getSportEventId(), changed.getSportEventId());
+            if (order < 0) {
+                consumer.accept(snapshotted);
+                snapshotted = base.hasNext() ? base.next() : null;
+                continue;
+            }
+            consumer.accept(changed);
+            if (order == 0) {
+                snapshotted = base.hasNext() ? base.next() : null;
+            }
+            changed = changes.hasNext() ? changes.next() : null;
+        }
+    }
+
+    /**
+     * The last of the changes of every event, from changes grouped by event and in order within each.
+     */
+    private static final class LastChanges implements Iterator<SportEventStatusChangeDTO> {
+
+        private final Iterator<SportEventStatusChangeDTO> changes;
+        private SportEventStatusChangeDTO pending;
+
+        LastChanges(Iterator<SportEventStatusChangeDTO> changes) {
+            this.changes = changes;
+            this.pending = changes.hasNext() ? changes.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pending != null;
+        }
+
+        @Override
+        public SportEventStatusChangeDTO next() {
+            if (pending == null) {
+                throw new NoSuchElementException();
+            }
+            var last = pending;
+            pending = null;
+            while (changes.hasNext()) {
+                var change = changes.next();
+                if (!change.getSportEventId().equals(last.getSportEventId())) {
+                    pending = change;
+                    break;
+                }
+                last = change;
+            }
+            return last;
+        }
+    }
+}
@@ -1,118 +1,251 @@
 package org.example.sporteventsapi.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
+import org.example.sporteventsapi.cache.SportEventCache;
+import org.example.sporteventsapi.config.SportEventsProperties;
 import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.dto.SportEventFilter;
+import org.example.sporteventsapi.dto.SportEventPage;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.example.sporteventsapi.exception.ConflictException;
+import org.example.sporteventsapi.exception.IndexNotReadyException;
+import org.example.sporteventsapi.exception.InvalidRequestParameterException;
 import org.example.sporteventsapi.exception.InvalidStatusChangeException;
 import org.example.sporteventsapi.exception.NoRecordFoundException;
+import org.example.sporteventsapi.index.SportEventIndex;
+import org.example.sporteventsapi.index.SportEventNameIndex;
 import org.example.sporteventsapi.mapping.SportEventMapper;
-import org.example.sporteventsapi.model.SportEvent;
+import org.example.sporteventsapi.metrics.SportEventMetrics;
+import org.example.sporteventsapi.model.SportEventSort;
 import org.example.sporteventsapi.model.SportEventStatus;
 import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.repository.SportEventPosition;
 import org.example.sporteventsapi.repository.SportEventRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
-import java.util.List;
 import java.util.Objects;
-import java.util.function.Supplier;
+import java.util.function.Consumer;
 
 @Service
 @AllArgsConstructor
+@Timed(SportEventService.SERVICE_TIMER)
 public class SportEventService {
 
+    public static final String SERVICE_TIMER = "sport_events.service";
+
+    private static final String FIND_PAGE = "find_page";
+
     @NonNull
     private SportEventRepository sportEventRepository;
 
+    @NonNull
+    private SportEventsProperties properties;
+
+    @NonNull
+    private SportEventIndex sportEventIndex;
+
+    @NonNull
+    private ApplicationEventPublisher eventPublisher;
+
+    @NonNull
+    private SportEventMetrics metrics;
+
+    @NonNull
+    private SingleFlight singleFlight;
+
+    @NonNull
+    private SportEventCache sportEventCache;
+
+    @NonNull
+    private SportEventNameIndex sportEventNameIndex;
+
     @Transactional
     public SportEventDTO createSportEvent(SportEventDTO sportEventDTO) {
         var event = this.sportEventRepository.save(SportEventMapper.INSTANCE.toEntity(sportEventDTO));
-        return SportEventMapper.INSTANCE.toDto(event);
+        var created = SportEventMapper.INSTANCE.toDto(event);
+        eventPublisher.publishEvent(new SportEventChangedEvent(null, created));
+        return created;
     }
 
-    public List<SportEventDTO> getSportEvents(SportType type, SportEventStatus status) {
-        List<Supplier<List<SportEvent>>> conditions = List.of(
-                () -> (type != null && status != null) ? sportEventRepository.findAllBySportTypeAndEventStatus(type, status) : null,
-                () -> (type != null) ? sportEventRepository.findAllBySportType(type) : null,
-                () -> (status != null) ? sportEventRepository.findAllByEventStatus(status) : null,
-                () -> sportEventRepository.findAll()
-        );
-
-        return conditions.stream()
-                .map(Supplier::get)
-                .filter(Objects::nonNull)
-                .findFirst()
-                .map(SportEventMapper.INSTANCE::toDtoList)
-                .orElseGet(Collections::emptyList);
-    }
-
-    public SportEventDTO getSportEventById(Long id) {
-        var sportEvent = sportEventRepository.findById(id)
-                .orElseThrow(() -> new NoRecordFoundException("Sport Event", "id", id.toString()));
-        return SportEventMapper.INSTANCE.toDto(sportEvent);
+    /**
+     * Listings in id order without a time range are answered by the index, everything else by one
+     * query built from the filter. Identical queries running at the same time share one database
+     * round trip.
+     */
+    public SportEventPage getSportEvents(SportEventFilter filter, SportEventSort sort, String cursor, Integer limit) {
+        if (filter.getFrom() != null && filter.getTo() != null && !filter.getFrom().isBefore(filter.getTo())) {
+            throw new InvalidRequestParameterException("to", filter.getTo());
+        }
+        var order = sort == null ? SportEventSort.ID : sort;
+        var after = PageCursor.decode(cursor, order);
+        var pageSize = resolveLimit(limit);
+
+        var start = System.nanoTime();
+        var fromIndex = sportEventIndex.isReady() && order == SportEventSort.ID && !filter.hasTimeRange();
+        var events = fromIndex
+                ? sportEventIndex.findPage(filter.getType(), filter.getStatus(), after == null ? 0L : after.id(), pageSize + 1)
+                : singleFlight.execute(FIND_PAGE, new PageQuery(filter, order, after, pageSize + 1),
+                () -> sportEventRepository.findPage(filter, order, after, pageSize + 1));
+        metrics.recordQuery(filter.getType(), filter.getStatus(), fromIndex ? "index" : "database",
+                System.nanoTime() - start, events.size());
+        var hasMore = events.size() > pageSize;
+        var items = hasMore ? events.subList(0, pageSize) : events;
+
+        var nextCursor = hasMore ? PageCursor.encode(items.get(items.size() - 1), order) : null;
+        return new SportEventPage(items, nextCursor);
     }
 
-    public SportEventDTO changeEventStatus(Long id, SportEventStatus newStatus) {
-        var now = LocalDateTime.now();
+    /**
+     * Events whose name contains every term of {@code query}, the last one as a prefix, in id
+     * order. Served from the name index only, never by scanning names in the database. A lone
+     * prefix drives the search by merging the events of every token it starts, so one that is
+     * shorter than {@code sport-events.search.min-prefix-length} or starts more than
+     * {@code max-prefix-tokens} tokens is refused, counted and explained in the response.
+     */
+    public SportEventPage searchSportEvents(String query, SportType type, SportEventStatus status, String cursor, Integer limit) {
+        var terms = SportEventNameIndex.tokenize(query);
+        if (terms.isEmpty()) {
+            throw new InvalidRequestParameterException("q", query);
+        }
+        if (!sportEventNameIndex.isReady()) {
+            throw new IndexNotReadyException("search");
+        }
+        if (terms.size() == 1) {
+            checkPrefix(query, terms.get(0));
+        }
+        var after = PageCursor.decode(cursor, SportEventSort.ID);
+        var pageSize = resolveLimit(limit);
 
-        var sportEvent = sportEventRepository.findById(id)
-                .orElseThrow(() -> new NoRecordFoundException("Sport Event", "id", id.toString()));
+        var start = System.nanoTime();
+        var events = sportEventNameIndex.search(terms, type, status, after == null ? 0L : after.id(), pageSize + 1);
+        metrics.recordQuery(type, status, "search", System.nanoTime() - start, events.size());
+        var hasMore = events.size() > pageSize;
+        var items = hasMore ? events.subList(0, pageSize) : events;
 
-        validateStatusChange(sportEvent, newStatus, now);
+        var nextCursor = hasMore ? PageCursor.encode(items.get(items.size() - 1), SportEventSort.ID) : null;
+        return new SportEventPage(items, nextCursor);
+    }
 
-        sportEvent.setEventStatus(newStatus);
-        sportEventRepository.save(sportEvent);
+    /**
+     * Pushes every matching event to {@code consumer} one by one. Rows are selected straight into
+     * DTOs, so nothing accumulates in the persistence context however large the result set is.
+     */
+    @Transactional(readOnly = true)
+    public void streamSportEvents(SportType type, SportEventStatus status, Consumer<SportEventDTO> consumer) {
+        try (var events = sportEventRepository.streamAll(type, status)) {
+            events.forEach(consumer);
+        }
+    }
 
-        return SportEventMapper.INSTANCE.toDto(sportEvent);
+    /**
+     * Entity tag of one event taken from the index, {@code null} when the index cannot answer.
+     */
+    public String getSportEventETag(Long id) {
+        var indexed = sportEventIndex.isReady() ? sportEventIndex.get(id) : null;
+        return indexed == null ? null : eTagOf(indexed);
     }
 
-    private void validateStatusChange(SportEvent sportEvent, SportEventStatus newStatus, LocalDateTime now) {
-        if (newStatus == null) {
-            throw new InvalidStatusChangeException(sportEvent.getEventStatus(), null);
+    /**
+     * Entity tag of one listing page, derived from the version counters of the index buckets it
+     * covers. It changes whenever any event in those buckets changes, without loading a single row.
+     */
+    public String getSportEventsETag(SportEventFilter filter, SportEventSort sort, String cursor, Integer limit) {
+        if (!sportEventIndex.isReady()) {
+            return null;
         }
+        return String.format("W/\"%x-%x-%d\"", sportEventIndex.getGeneration(),
+                Objects.hash(filter, sort, cursor, limit), sportEventIndex.getVersion(filter.getType(), filter.getStatus()));
+    }
 
-        var currentStatus = sportEvent.getEventStatus();
-        switch (newStatus) {
-            case INACTIVE:
-                validateInactiveStatus(currentStatus);
-                break;
-            case ACTIVE:
-                validateActiveStatus(sportEvent, now, currentStatus);
-                break;
-            case FINISHED:
-                validateFinishedStatus(currentStatus);
-                break;
-            default:
-                throw new InvalidStatusChangeException(currentStatus, newStatus);
-        }
+    public static String eTagOf(SportEventDTO sportEvent) {
+        return String.format("\"%d-%d\"", sportEvent.getId(), sportEvent.getVersion() == null ? 0 : sportEvent.getVersion());
     }
 
-    private void validateInactiveStatus(SportEventStatus currentStatus) {
-        if (currentStatus == SportEventStatus.FINISHED) {
-            throw new InvalidStatusChangeException(currentStatus, SportEventStatus.INACTIVE);
+    /**
+     * Not coalesced by {@link SingleFlight}: a joined load may have read the event before a change
+     * the caller already saw committed. Loaded events go into the cache through its version check,
+     * a load finishing after a newer version was written through neither replaces it nor is returned.
+     */
+    public SportEventDTO getSportEventById(Long id) {
+        var cached = sportEventCache.get(id);
+        if (cached != null) {
+            return cached;
         }
+        var sportEvent = sportEventRepository.findById(id)
+                .orElseThrow(() -> new NoRecordFoundException("Sport Event", "id", id.toString()));
+        return sportEventCache.store(SportEventMapper.INSTANCE.toDto(sportEvent));
     }
 
-    private void validateActiveStatus(SportEvent sportEvent, LocalDateTime now, SportEventStatus currentStatus) {
-        if (currentStatus == SportEventStatus.FINISHED) {
-            throw new InvalidStatusChangeException(currentStatus, SportEventStatus.ACTIVE);
+    /**
+     * Read-validate-write guarded by the entity version. When another transition commits between
+     * the read and the update, the event is re-read and validated again against its new status,
+     * up to {@code sport-events.status-change.max-attempts} times before giving up with a conflict.
+     */
+    @Transactional
+    public SportEventDTO changeEventStatus(Long id, SportEventStatus newStatus) {
+        var now = LocalDateTime.now();
+        var maxAttempts = properties.getStatusChange().getMaxAttempts();
+
+        for (int attempt = 1; ; attempt++) {
+            var sportEvent = sportEventRepository.findById(id).orElse(null);
+            if (sportEvent == null) {
+                metrics.statusChangeRejected(NoRecordFoundException.class, null, newStatus);
+                throw new NoRecordFoundException("Sport Event", "id", id.toString());
+            }
+
+            try {
+                StatusTransitions.validate(sportEvent.getEventStatus(), sportEvent.getStartTime(), newStatus, now);
+            } catch (InvalidStatusChangeException e) {
+                metrics.statusChangeRejected(InvalidStatusChangeException.class, e.getCurrentStatus(), e.getAttemptedStatus());
+                throw e;
+            }
+
+            var previous = SportEventMapper.INSTANCE.toDto(sportEvent);
+            if (sportEventRepository.updateEventStatusIfUnchanged(id, previous.getVersion(), newStatus) == 1) {
+                var updated = previous.toBuilder()
+                        .eventStatus(newStatus)
+                        .version(previous.getVersion() + 1)
+                        .build();
+                eventPublisher.publishEvent(new SportEventChangedEvent(previous, updated));
+                return updated;
+            }
+            if (attempt >= maxAttempts) {
+                metrics.statusChangeRejected(ConflictException.class, previous.getEventStatus(), newStatus);
+                throw new ConflictException("Sport Event", id);
+            }
         }
-        if (currentStatus == SportEventStatus.ACTIVE) {
-            throw new InvalidStatusChangeException("Event is already ACTIVE");
+    }
+
+    private void checkPrefix(String query, String prefix) {
+        var search = properties.getSearch();
+        if (prefix.codePointCount(0, prefix.length()) < search.getMinPrefixLength()) {
+            metrics.searchRejected("short_prefix");
+            throw new InvalidRequestParameterException("q", query,
+                    "a single term needs at least %d characters".formatted(search.getMinPrefixLength()));
         }
-        if (sportEvent.getStartTime().isBefore(now)) {
-            throw new InvalidStatusChangeException("Cannot activate a sports event that has already started");
+        if (sportEventNameIndex.prefixTokenCount(prefix, search.getMaxPrefixTokens()) > search.getMaxPrefixTokens()) {
+            metrics.searchRejected("broad_prefix");
+            throw new InvalidRequestParameterException("q", query,
+                    "the term matches too many words, add characters or another term");
         }
     }
 
-    private void validateFinishedStatus(SportEventStatus currentStatus) {
-        if (currentStatus == SportEventStatus.FINISHED) {
-            throw new InvalidStatusChangeException("Event is already FINISHED");
+    private int resolveLimit(Integer limit) {
+        var pagination = properties.getPagination();
+        if (limit == null) {
+            return pagination.getDefaultLimit();
         }
-        if (currentStatus == SportEventStatus.INACTIVE) {
-            throw new InvalidStatusChangeException(currentStatus, SportEventStatus.FINISHED);
+        if (limit < 1) {
+            throw new InvalidRequestParameterException("limit", limit);
         }
+        return Math.min(limit, pagination.getMaxLimit());
+    }
+
+    private record PageQuery(SportEventFilter filter, SportEventSort sort, SportEventPosition after, int limit) {
     }
 }
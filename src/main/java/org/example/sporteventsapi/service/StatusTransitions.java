@@ -0,0 +1,88 @@
+package org.example.sporteventsapi.service;
+
+import org.example.sporteventsapi.exception.InvalidStatusChangeException;
+import org.example.sporteventsapi.model.SportEventStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Status transition rules shared by single and bulk status changes. The rules are a table indexed
+ * by the current and the requested status, each cell holds the rejection of that transition or
+ * {@code null} when it is allowed. Rejections are preallocated stackless exceptions, so validating
+ * a change allocates nothing, whether it is accepted or not.
+ */
+public final class StatusTransitions {
+
+    private static final SportEventStatus[] STATUSES = SportEventStatus.values();
+
+    /**
+     * One extra row and column for a {@code null} status.
+     */
+    private static final int SIZE = STATUSES.length + 1;
+
+    private static final InvalidStatusChangeException[][] REJECTIONS = new InvalidStatusChangeException[SIZE][SIZE];
+
+    /**
+     * Allowed activations that fail only because the event has already started, by current status.
+     */
+    private static final InvalidStatusChangeException[] ALREADY_STARTED = new InvalidStatusChangeException[SIZE];
+
+    static {
+        for (int current = 0; current < SIZE; current++) {
+            var currentStatus = statusAt(current);
+            for (int attempted = 0; attempted < SIZE; attempted++) {
+                REJECTIONS[current][attempted] = rejectionOf(currentStatus, statusAt(attempted));
+            }
+            ALREADY_STARTED[current] = InvalidStatusChangeException.shared(
+                    "Cannot activate a sports event that has already started", currentStatus, SportEventStatus.ACTIVE);
+        }
+    }
+
+    private StatusTransitions() {
+    }
+
+    /**
+     * Throws the rejection of changing an event in {@code currentStatus} starting at
+     * {@code startTime} to {@code newStatus} at {@code now}, returns normally when it is allowed.
+     */
+    public static void validate(SportEventStatus currentStatus, LocalDateTime startTime, SportEventStatus newStatus,
+                                LocalDateTime now) {
+        var current = indexOf(currentStatus);
+        var rejection = REJECTIONS[current][indexOf(newStatus)];
+        if (rejection != null) {
+            throw rejection;
+        }
+        if (newStatus == SportEventStatus.ACTIVE && startTime.isBefore(now)) {
+            throw ALREADY_STARTED[current];
+        }
+    }
+
+    private static InvalidStatusChangeException rejectionOf(SportEventStatus currentStatus, SportEventStatus newStatus) {
+        if (newStatus == null) {
+            return InvalidStatusChangeException.shared(null, currentStatus, null);
+        }
+        return switch (newStatus) {
+            case INACTIVE -> currentStatus == SportEventStatus.FINISHED
+                    ? InvalidStatusChangeException.shared(null, currentStatus, newStatus)
+                    : null;
+            case ACTIVE -> switch (currentStatus == null ? SportEventStatus.INACTIVE : currentStatus) {
+                case FINISHED -> InvalidStatusChangeException.shared(null, currentStatus, newStatus);
+                case ACTIVE -> InvalidStatusChangeException.shared("Event is already ACTIVE", currentStatus, newStatus);
+                case INACTIVE -> null;
+            };
+            case FINISHED -> switch (currentStatus == null ? SportEventStatus.ACTIVE : currentStatus) {
+                case FINISHED -> InvalidStatusChangeException.shared("Event is already FINISHED", currentStatus, newStatus);
+                case INACTIVE -> InvalidStatusChangeException.shared(null, currentStatus, newStatus);
+                case ACTIVE -> null;
+            };
+        };
+    }
+
+    private static int indexOf(SportEventStatus status) {
+        return status == null ? STATUSES.length : status.ordinal();
+    }
+
+    private static SportEventStatus statusAt(int index) {
+        return index == STATUSES.length ? null : STATUSES[index];
+    }
+}
@@ -0,0 +1,17 @@
+-- Portable between H2 and PostgreSQL. Enum columns are plain varchar, the values are the enum constant names.
+create sequence sport_events_seq start with 1 increment by 50;
+
+create table sport_events
+(
+    id           bigint       not null,
+    name         varchar(255),
+    sport_type   varchar(32),
+    event_status varchar(32),
+    start_time   timestamp(6),
+    version      bigint,
+    constraint pk_sport_events primary key (id)
+);
+
+create index idx_sport_events_start_time on sport_events (start_time);
+create index idx_sport_events_type_status on sport_events (sport_type, event_status);
+create index idx_sport_events_status_start_time on sport_events (event_status, start_time);
@@ -0,0 +1,22 @@
+-- Append-only log of status transitions, one row per committed change. from_status is null for the
+-- status an event was created with. Rows are inserted in JDBC batches and never updated, the
+-- identity column keeps the inserts free of sequence round trips.
+create table sport_event_status_changes
+(
+    id             bigint generated by default as identity,
+    sport_event_id bigint       not null,
+    from_status    varchar(32),
+    to_status      varchar(32)  not null,
+    changed_at     timestamp(6) not null,
+    version        bigint       not null,
+    constraint pk_sport_event_status_changes primary key (id)
+);
+
+-- History of one event and the replay of all events both read the log in this order
+create index idx_sport_event_status_changes_event_version on sport_event_status_changes (sport_event_id, version);
+
+-- Events stored before the log existed start from their current status
+insert into sport_event_status_changes (sport_event_id, from_status, to_status, changed_at, version)
+select id, null, event_status, current_timestamp, coalesce(version, 0)
+from sport_events
+where event_status is not null;
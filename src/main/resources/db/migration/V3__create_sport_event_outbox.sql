@@ -0,0 +1,11 @@
+-- Transactional outbox: one row per change, inserted in the transaction of the change and deleted
+-- once SportEventOutboxRelay has handed it to the publisher. The identity order is the delivery order.
+create table sport_event_outbox
+(
+    id             bigint generated by default as identity,
+    sport_event_id bigint        not null,
+    change_type    varchar(32)   not null,
+    payload        varchar(4000) not null,
+    created_at     timestamp(6)  not null,
+    constraint pk_sport_event_outbox primary key (id)
+);
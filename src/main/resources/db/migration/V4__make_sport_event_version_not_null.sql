@@ -0,0 +1,5 @@
+-- Every write path compares and increments the version as is, rows inserted before Hibernate
+-- managed the column start at version 0.
+update sport_events set version = 0 where version is null;
+
+alter table sport_events alter column version set not null;
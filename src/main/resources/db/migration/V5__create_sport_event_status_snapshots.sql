@@ -0,0 +1,15 @@
+-- Status of every event as replayed from the log up to taken_at, the last change of each event.
+-- A replay starts from the latest snapshot not after its point in time and reads the log after it.
+create table sport_event_status_snapshots
+(
+    taken_at       timestamp(6) not null,
+    sport_event_id bigint       not null,
+    from_status    varchar(32),
+    to_status      varchar(32)  not null,
+    changed_at     timestamp(6) not null,
+    version        bigint       not null,
+    constraint pk_sport_event_status_snapshots primary key (taken_at, sport_event_id)
+);
+
+-- The log after a snapshot is found by time
+create index idx_sport_event_status_changes_changed_at on sport_event_status_changes (changed_at);
@@ -0,0 +1,186 @@
+package org.example.sporteventsapi.controller;
+
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.outbox.FileSportEventPublisher;
+import org.example.sporteventsapi.outbox.SportEventOutboxRelay;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ActiveProfiles("reactive")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+public class ReactiveSportEventIntegrationTest {
+
+    // WebTestClient already prefixes spring.webflux.base-path
+    private static final String BASE_PATH = "/sport-events";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private FileSportEventPublisher publisher;
+
+    @Autowired
+    private SportEventOutboxRelay outboxRelay;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("When creating a sport event with ID on the reactive stack, validation fails")
+    void testCreateSportEventWithIdValidation() {
+        webTestClient.post().uri(BASE_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {
+                            "id": 5,
+                            "name": "",
+                            "sportType": "HOCKEY",
+                            "eventStatus": "INACTIVE",
+                            "startTime": null
+                        }
+                        """)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors[?(@.field == 'id')].message").isEqualTo("ID must be null when creating a new sport event")
+                .jsonPath("$.errors[?(@.field == 'name')].message").isEqualTo("Name must not be blank")
+                .jsonPath("$.errors[?(@.field == 'startTime')].message").isEqualTo("StartTime must not be null");
+    }
+
+    @Test
+    @DisplayName("When changing the status on the reactive stack, the same transition rules apply")
+    void testStatusTransitions() {
+        var created = create("reactive-status", "2033-01-01T10:00:00");
+
+        webTestClient.get().uri(BASE_PATH + "/{id}", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("reactive-status")
+                .jsonPath("$.version").isEqualTo(0);
+
+        webTestClient.patch().uri(BASE_PATH + "/{id}/status?newStatus=FINISHED", created.getId())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.detail").isEqualTo("Invalid status change from 'INACTIVE' to 'FINISHED'");
+
+        webTestClient.patch().uri(BASE_PATH + "/{id}/status?newStatus=ACTIVE", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.eventStatus").isEqualTo("ACTIVE")
+                .jsonPath("$.version").isEqualTo(1);
+
+        webTestClient.patch().uri(BASE_PATH + "/{id}/status?newStatus=ACTIVE", created.getId())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.detail").isEqualTo("Event is already ACTIVE");
+
+        webTestClient.get().uri(BASE_PATH + "/{id}", Long.MAX_VALUE)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("When listing sport events page by page on the reactive stack, every event is returned exactly once")
+    void testKeysetPagination() {
+        for (var startTime : List.of("2032-03-01T10:00:00", "2032-01-01T10:00:00", "2032-02-01T10:00:00")) {
+            create("reactive-" + startTime.substring(0, 7), startTime);
+        }
+
+        var firstPage = webTestClient.get()
+                .uri(BASE_PATH + "?type=HOCKEY&from=2032-01-01T00:00:00&to=2033-01-01T00:00:00&sort=START_TIME&limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(SportEventController.NEXT_CURSOR_HEADER)
+                .expectBody()
+                .jsonPath("$[*].name").value(contains("reactive-2032-01", "reactive-2032-02"))
+                .returnResult();
+
+        webTestClient.get()
+                .uri(uri -> uri.path(BASE_PATH)
+                        .queryParam("type", "HOCKEY")
+                        .queryParam("from", "2032-01-01T00:00:00")
+                        .queryParam("to", "2033-01-01T00:00:00")
+                        .queryParam("sort", "START_TIME")
+                        .queryParam("limit", 2)
+                        .queryParam("cursor", firstPage.getResponseHeaders().getFirst(SportEventController.NEXT_CURSOR_HEADER))
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(SportEventController.NEXT_CURSOR_HEADER)
+                .expectBody()
+                .jsonPath("$[*].name").value(contains("reactive-2032-03"));
+    }
+
+    @Test
+    @DisplayName("When an event is created and changed on the reactive stack, both changes are relayed from the outbox")
+    void testOutboxRelay() throws Exception {
+        // The file outlives the in-memory database, only what this test appends is looked at
+        var published = Files.exists(publisher.getFile()) ? Files.size(publisher.getFile()) : 0;
+        var created = create("reactive-outbox", "2037-01-01T10:00:00");
+        webTestClient.patch().uri(BASE_PATH + "/{id}/status?newStatus=ACTIVE", created.getId())
+                .exchange()
+                .expectStatus().isOk();
+
+        outboxRelay.relay();
+
+        var content = Files.readAllBytes(publisher.getFile());
+        var lines = new String(Arrays.copyOfRange(content, (int) published, content.length), StandardCharsets.UTF_8).lines()
+                .filter(line -> line.contains("\"sportEventId\":%d,".formatted(created.getId())))
+                .toList();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"type\":\"created\""));
+        assertTrue(lines.get(1).contains("\"eventStatus\":\"ACTIVE\""));
+    }
+
+    @Test
+    @DisplayName("When an event is created and changed on the reactive stack, both changes are logged in its history")
+    void testStatusHistory() {
+        var created = create("reactive-history", "2037-02-01T10:00:00");
+        webTestClient.patch().uri(BASE_PATH + "/{id}/status?newStatus=ACTIVE", created.getId())
+                .exchange()
+                .expectStatus().isOk();
+
+        var statuses = jdbcTemplate.queryForList(
+                "select to_status from sport_event_status_changes where sport_event_id = ? order by version",
+                String.class, created.getId());
+        assertEquals(List.of("INACTIVE", "ACTIVE"), statuses);
+    }
+
+    private SportEventDTO create(String name, String startTime) {
+        return webTestClient.post().uri(BASE_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {
+                            "name": "%s",
+                            "sportType": "HOCKEY",
+                            "eventStatus": "INACTIVE",
+                            "startTime": "%s"
+                        }
+                        """.formatted(name, startTime))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(SportEventDTO.class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
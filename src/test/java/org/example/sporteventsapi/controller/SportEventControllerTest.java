@@ -4,10 +4,16 @@ import lombok.SneakyThrows;
 import org.example.sporteventsapi.AbstractJPAMockTest;
 import org.example.sporteventsapi.Application;
 import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.dto.SportEventFilter;
+import org.example.sporteventsapi.dto.SportEventPage;
+import org.example.sporteventsapi.dto.SportEventStatusChangeDTO;
 import org.example.sporteventsapi.exception.NoRecordFoundException;
+import org.example.sporteventsapi.idempotency.IdempotencyStore;
 import org.example.sporteventsapi.model.SportEvent;
 import org.example.sporteventsapi.model.SportEventStatus;
 import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.service.SportEventBatchService;
+import org.example.sporteventsapi.service.SportEventHistoryService;
 import org.example.sporteventsapi.service.SportEventService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,14 +26,14 @@ import org.springframework.test.context.ContextConfiguration;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @DisplayName("SportEvent controller test")
 @ContextConfiguration(classes = {Application.class})
@@ -37,6 +43,15 @@ class SportEventControllerTest extends AbstractJPAMockTest {
     @MockBean
     private SportEventService sportEventService;
 
+    @MockBean
+    private SportEventBatchService sportEventBatchService;
+
+    @MockBean
+    private IdempotencyStore idempotencyStore;
+
+    @MockBean
+    private SportEventHistoryService sportEventHistoryService;
+
     @Nested
     @DisplayName("GET")
     class Get {
@@ -56,7 +71,7 @@ class SportEventControllerTest extends AbstractJPAMockTest {
                     .startTime(LocalDateTime.now())
                     .build()
             );
-            when(sportEventService.getSportEvents(type, status)).thenReturn(sportEvents);
+            when(sportEventService.getSportEvents(filter(type, status), null, null, null)).thenReturn(new SportEventPage(sportEvents, null));
 
             // Act & Assert
             mockMvc.perform(get("/sport-events")
@@ -66,7 +81,7 @@ class SportEventControllerTest extends AbstractJPAMockTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$", hasSize(1)));
 
-            verify(sportEventService).getSportEvents(type, status);
+            verify(sportEventService).getSportEvents(filter(type, status), null, null, null);
         }
 
         @Test
@@ -83,7 +98,7 @@ class SportEventControllerTest extends AbstractJPAMockTest {
                     .startTime(LocalDateTime.now())
                     .build()
             );
-            when(sportEventService.getSportEvents(null, status)).thenReturn(sportEvents);
+            when(sportEventService.getSportEvents(filter(null, status), null, null, null)).thenReturn(new SportEventPage(sportEvents, null));
 
             // Act & Assert
             mockMvc.perform(get("/sport-events")
@@ -92,7 +107,7 @@ class SportEventControllerTest extends AbstractJPAMockTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$", hasSize(1)));
 
-            verify(sportEventService).getSportEvents(null, status);
+            verify(sportEventService).getSportEvents(filter(null, status), null, null, null);
         }
 
         @Test
@@ -109,7 +124,7 @@ class SportEventControllerTest extends AbstractJPAMockTest {
                     .startTime(LocalDateTime.now())
                     .build()
             );
-            when(sportEventService.getSportEvents(type, null)).thenReturn(sportEvents);
+            when(sportEventService.getSportEvents(filter(type, null), null, null, null)).thenReturn(new SportEventPage(sportEvents, null));
 
             // Act & Assert
             mockMvc.perform(get("/sport-events")
@@ -118,7 +133,7 @@ class SportEventControllerTest extends AbstractJPAMockTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$", hasSize(1)));
 
-            verify(sportEventService).getSportEvents(type, null);
+            verify(sportEventService).getSportEvents(filter(type, null), null, null, null);
         }
 
         @Test
@@ -135,7 +150,7 @@ class SportEventControllerTest extends AbstractJPAMockTest {
                             .startTime(LocalDateTime.now())
                             .build()
             );
-            when(sportEventService.getSportEvents(null, null)).thenReturn(sportEvents);
+            when(sportEventService.getSportEvents(filter(null, null), null, null, null)).thenReturn(new SportEventPage(sportEvents, null));
 
             // Act & Assert
             mockMvc.perform(get("/sport-events")
@@ -143,7 +158,7 @@ class SportEventControllerTest extends AbstractJPAMockTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$", hasSize(1)));
 
-            verify(sportEventService).getSportEvents(null, null);
+            verify(sportEventService).getSportEvents(filter(null, null), null, null, null);
         }
 
         @Test
@@ -162,7 +177,7 @@ class SportEventControllerTest extends AbstractJPAMockTest {
                     .andExpect(jsonPath("$.detail").value("The provided value 'INVALID_TYPE' could not be converted to the expected type 'SportType'!"));
 
 
-            verify(sportEventService, never()).getSportEvents(any(), any());
+            verify(sportEventService, never()).getSportEvents(any(), any(), any(), any());
         }
 
         @Test
@@ -180,7 +195,7 @@ class SportEventControllerTest extends AbstractJPAMockTest {
                     .andExpect(jsonPath("$.title").value("Invalid value for parameter: status"))
                     .andExpect(jsonPath("$.detail").value("The provided value 'INVALID_STATUS' could not be converted to the expected type 'SportEventStatus'!"));
 
-            verify(sportEventService, never()).getSportEvents(any(), any());
+            verify(sportEventService, never()).getSportEvents(any(), any(), any(), any());
         }
 
         @Test
@@ -222,6 +237,157 @@ class SportEventControllerTest extends AbstractJPAMockTest {
                     .andExpect(jsonPath("$.title").value("No record found!"))
                     .andExpect(jsonPath("$.detail").value("No Sport Event was found by id with value '99'"));
         }
+
+        @Test
+        @SneakyThrows
+        @DisplayName("Verifying GET /sport-events/{id} answers 304 for a matching entity tag without loading the event")
+        void test_11() {
+            // Arrange
+            when(sportEventService.getSportEventETag(1L)).thenReturn("\"1-4\"");
+
+            // Act & Assert
+            mockMvc.perform(get("/sport-events/{id}", 1L)
+                            .header("If-None-Match", "\"1-4\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "\"1-4\""));
+
+            verify(sportEventService, never()).getSportEventById(any());
+        }
+
+        @Test
+        @SneakyThrows
+        @DisplayName("Verifying GET /sport-events answers 304 for a matching collection tag without listing events")
+        void test_12() {
+            // Arrange
+            when(sportEventService.getSportEventsETag(filter(SportType.FOOTBALL, null), null, null, null)).thenReturn("W/\"a-b-7\"");
+
+            // Act & Assert
+            mockMvc.perform(get("/sport-events")
+                            .param("type", SportType.FOOTBALL.name())
+                            .header("If-None-Match", "W/\"a-b-7\""))
+                    .andExpect(status().isNotModified());
+
+            verify(sportEventService, never()).getSportEvents(any(), any(), any(), any());
+        }
+
+        @Test
+        @SneakyThrows
+        @DisplayName("Verifying unfiltered GET /sport-events beyond the client's burst gets 429 with Retry-After")
+        void test_13() {
+            // Arrange
+            when(sportEventService.getSportEvents(any(), any(), any(), any())).thenReturn(new SportEventPage(List.of(), null));
+            for (int i = 0; i < 10; i++) {
+                mockMvc.perform(get("/sport-events").header("X-Api-Key", "greedy-client"))
+                        .andExpect(status().isOk());
+            }
+
+            // Act & Assert
+            mockMvc.perform(get("/sport-events").header("X-Api-Key", "greedy-client"))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.status", is(429)));
+            mockMvc.perform(get("/sport-events").param("type", SportType.FOOTBALL.name()).header("X-Api-Key", "greedy-client"))
+                    .andExpect(status().isOk());
+
+            verify(sportEventService, times(10)).getSportEvents(filter(null, null), null, null, null);
+        }
+
+        @Test
+        @SneakyThrows
+        @DisplayName("Verifying GET /sport-events/search passes the query and filters and exposes the cursor")
+        void test_14() {
+            // Arrange
+            var sportEvents = List.of(SportEventDTO.builder()
+                    .id(3L)
+                    .name("Champions League Final")
+                    .sportType(SportType.FOOTBALL)
+                    .eventStatus(SportEventStatus.ACTIVE)
+                    .startTime(LocalDateTime.now())
+                    .build()
+            );
+            when(sportEventService.searchSportEvents("champions fin", SportType.FOOTBALL, null, null, 1))
+                    .thenReturn(new SportEventPage(sportEvents, "next"));
+
+            // Act & Assert
+            mockMvc.perform(get("/sport-events/search")
+                            .param("q", "champions fin")
+                            .param("type", SportType.FOOTBALL.name())
+                            .param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-Next-Cursor", "next"))
+                    .andExpect(jsonPath("$[0].name", is("Champions League Final")));
+        }
+
+        @Test
+        @SneakyThrows
+        @DisplayName("Verifying GET /sport-events/{id}/history lists the status changes of the event")
+        void test_15() {
+            // Arrange
+            var changedAt = LocalDateTime.of(2030, 6, 1, 19, 55);
+            when(sportEventHistoryService.getHistory(4L)).thenReturn(List.of(
+                    new SportEventStatusChangeDTO(4L, null, SportEventStatus.INACTIVE, changedAt.minusDays(1), 0L),
+                    new SportEventStatusChangeDTO(4L, SportEventStatus.INACTIVE, SportEventStatus.ACTIVE, changedAt, 1L)));
+
+            // Act & Assert
+            mockMvc.perform(get("/sport-events/4/history"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[0].fromStatus").doesNotExist())
+                    .andExpect(jsonPath("$[1].fromStatus", is("INACTIVE")))
+                    .andExpect(jsonPath("$[1].toStatus", is("ACTIVE")))
+                    .andExpect(jsonPath("$[1].version", is(1)));
+        }
+
+        @Test
+        @SneakyThrows
+        @DisplayName("Verifying GET /sport-events exposes the continuation cursor as a header")
+        void test_9() {
+            // Arrange
+            var sportEvents = List.of(SportEventDTO.builder()
+                    .id(10L)
+                    .name("Test Event")
+                    .sportType(SportType.FOOTBALL)
+                    .eventStatus(SportEventStatus.ACTIVE)
+                    .startTime(LocalDateTime.now())
+                    .build()
+            );
+            when(sportEventService.getSportEvents(filter(null, null), null, "abc", 1)).thenReturn(new SportEventPage(sportEvents, "def"));
+
+            // Act & Assert
+            mockMvc.perform(get("/sport-events")
+                            .param("cursor", "abc")
+                            .param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-Next-Cursor", "def"))
+                    .andExpect(jsonPath("$", hasSize(1)));
+        }
+
+        @Test
+        @SneakyThrows
+        @DisplayName("Verifying GET /sport-events/stream writes newline delimited JSON")
+        void test_10() {
+            // Arrange
+            doAnswer(invocation -> {
+                Consumer<SportEventDTO> consumer = invocation.getArgument(2);
+                consumer.accept(SportEventDTO.builder().id(1L).name("event-1").build());
+                consumer.accept(SportEventDTO.builder().id(2L).name("event-2").build());
+                return null;
+            }).when(sportEventService).streamSportEvents(eq(SportType.FOOTBALL), isNull(), any());
+
+            // Act
+            var result = mockMvc.perform(get("/sport-events/stream")
+                            .param("type", SportType.FOOTBALL.name()))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Assert
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andExpect(content().string(allOf(
+                            org.hamcrest.Matchers.startsWith("{\"id\":1,\"name\":\"event-1\""),
+                            containsString("\n{\"id\":2,\"name\":\"event-2\""))));
+        }
     }
 
     @Nested
@@ -286,6 +452,34 @@ class SportEventControllerTest extends AbstractJPAMockTest {
                             containsString("Invalid request body. Cannot deserialize value 'INVALID_TYPE' to the expected type. Accepted values: [FOOTBALL, HOCKEY, BASKETBALL, BASEBALL, TENNIS, MMA]!")
                     ));
         }
+
+        @Test
+        @SneakyThrows
+        @DisplayName("Verifying POST /sport-events with an Idempotency-Key replays the stored event")
+        void test_3() {
+            // Arrange
+            var sportEvent = SportEventDTO.builder()
+                    .name("test")
+                    .sportType(SportType.FOOTBALL)
+                    .eventStatus(SportEventStatus.ACTIVE)
+                    .startTime(LocalDateTime.of(2025, 11, 16, 15, 30, 45))
+                    .build();
+            var stored = sportEvent.toBuilder().id(7L).build();
+
+            when(idempotencyStore.execute(eq("key-1"), eq(sportEvent), any()))
+                    .thenReturn(new IdempotencyStore.Outcome(stored, true));
+
+            // Act & Assert
+            mockMvc.perform(post("/sport-events")
+                            .header(IdempotencyStore.KEY_HEADER, "key-1")
+                            .contentType(APPLICATION_JSON_VALUE)
+                            .content(objectMapper.writeValueAsBytes(sportEvent)))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string(IdempotencyStore.REPLAYED_HEADER, "true"))
+                    .andExpect(jsonPath("$.id", is(7)));
+
+            verifyNoInteractions(sportEventService);
+        }
     }
 
     @Nested
@@ -325,4 +519,8 @@ class SportEventControllerTest extends AbstractJPAMockTest {
             Mockito.verify(sportEventService, times(1)).changeEventStatus(1L, SportEventStatus.ACTIVE);
         }
     }
-}
\ No newline at end of file
+
+    private static SportEventFilter filter(SportType type, SportEventStatus status) {
+        return SportEventFilter.builder().type(type).status(status).build();
+    }
+}
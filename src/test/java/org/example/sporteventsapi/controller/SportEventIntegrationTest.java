@@ -1,15 +1,44 @@
 package org.example.sporteventsapi.controller;
 
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.example.sporteventsapi.dto.SportEventStatusChangeDTO;
+import org.example.sporteventsapi.history.SportEventHistorySnapshotter;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.outbox.FileSportEventPublisher;
+import org.example.sporteventsapi.outbox.SportEventOutboxRelay;
+import org.example.sporteventsapi.service.SportEventHistoryService;
+import org.example.sporteventsapi.model.SportType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -19,6 +48,21 @@ public class SportEventIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SportEventOutboxRelay outboxRelay;
+
+    @Autowired
+    private FileSportEventPublisher publisher;
+
+    @Autowired
+    private SportEventHistorySnapshotter historySnapshotter;
+
+    @Autowired
+    private SportEventHistoryService historyService;
+
     @Test
     @DisplayName("When creating a sport event with ID, validation fails")
     void testCreateSportEventWithIdValidation() throws Exception {
@@ -43,4 +87,408 @@ public class SportEventIntegrationTest {
                 .andExpect(jsonPath("$.errors[?(@.field == 'startTime')].message")
                         .value("StartTime must not be null"));
     }
+
+    @Test
+    @DisplayName("When listing sport events page by page, every event is returned exactly once")
+    void testKeysetPagination() throws Exception {
+        for (var name : List.of("page-1", "page-2", "page-3")) {
+            mockMvc.perform(post("/sport-events")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {
+                                        "name": "%s",
+                                        "sportType": "MMA",
+                                        "eventStatus": "INACTIVE",
+                                        "startTime": "2030-01-01T10:00:00"
+                                    }
+                                    """.formatted(name)))
+                    .andExpect(status().isCreated());
+        }
+
+        var firstPage = mockMvc.perform(get("/sport-events")
+                        .param("type", "MMA")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("page-1", "page-2")))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn();
+
+        mockMvc.perform(get("/sport-events")
+                        .param("type", "MMA")
+                        .param("limit", "2")
+                        .param("cursor", firstPage.getResponse().getHeader("X-Next-Cursor")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("page-3")))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    @DisplayName("When listing sport events by start time, pages follow the requested order")
+    void testSortedPagination() throws Exception {
+        for (var startTime : List.of("2030-03-01T10:00:00", "2030-01-01T10:00:00", "2030-02-01T10:00:00")) {
+            mockMvc.perform(post("/sport-events")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {
+                                        "name": "sorted-%s",
+                                        "sportType": "BASKETBALL",
+                                        "eventStatus": "INACTIVE",
+                                        "startTime": "%s"
+                                    }
+                                    """.formatted(startTime.substring(0, 7), startTime)))
+                    .andExpect(status().isCreated());
+        }
+
+        var firstPage = mockMvc.perform(get("/sport-events")
+                        .param("type", "BASKETBALL")
+                        .param("sort", "START_TIME_DESC")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("sorted-2030-03", "sorted-2030-02")))
+                .andReturn();
+
+        mockMvc.perform(get("/sport-events")
+                        .param("type", "BASKETBALL")
+                        .param("sort", "START_TIME_DESC")
+                        .param("limit", "2")
+                        .param("cursor", firstPage.getResponse().getHeader("X-Next-Cursor")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("sorted-2030-01")))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    @DisplayName("When listing sport events in a time window, only events starting inside it are returned")
+    void testTimeWindow() throws Exception {
+        for (var startTime : List.of("2031-06-01T09:59:59", "2031-06-01T10:00:00", "2031-06-01T11:59:59", "2031-06-01T12:00:00")) {
+            mockMvc.perform(post("/sport-events")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {
+                                        "name": "window-%s",
+                                        "sportType": "FOOTBALL",
+                                        "eventStatus": "INACTIVE",
+                                        "startTime": "%s"
+                                    }
+                                    """.formatted(startTime.substring(11), startTime)))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/sport-events")
+                        .param("type", "FOOTBALL")
+                        .param("from", "2031-06-01T10:00:00")
+                        .param("to", "2031-06-01T12:00:00")
+                        .param("sort", "START_TIME"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("window-10:00:00", "window-11:59:59")));
+
+        mockMvc.perform(get("/sport-events")
+                        .param("from", "2031-06-01T12:00:00")
+                        .param("to", "2031-06-01T10:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Time window queries are answered with an index on start_time")
+    void testTimeWindowUsesIndex() {
+        var plan = jdbcTemplate.queryForObject("""
+                explain select id from sport_events
+                where start_time >= timestamp '2031-06-01 10:00:00' and start_time < timestamp '2031-06-01 12:00:00'""",
+                String.class);
+        var statusPlan = jdbcTemplate.queryForObject("""
+                explain select id from sport_events
+                where event_status = 'INACTIVE' and start_time < timestamp '2031-06-01 12:00:00'""",
+                String.class);
+
+        assertThat(plan, containsString("IDX_SPORT_EVENTS_START_TIME"));
+        assertThat(statusPlan, containsString("IDX_SPORT_EVENTS_STATUS_START_TIME"));
+    }
+
+    @Test
+    @DisplayName("When creating sport events in a batch, valid items are stored and invalid ones are reported")
+    void testBatchCreate() throws Exception {
+        var payload = """
+                [
+                    {"name": "batch-1", "sportType": "TENNIS", "eventStatus": "INACTIVE", "startTime": "2030-01-01T10:00:00"},
+                    {"name": "", "sportType": "TENNIS", "eventStatus": "INACTIVE", "startTime": "2030-01-01T10:00:00"},
+                    {"name": "batch-3", "sportType": "TENNIS", "eventStatus": "INACTIVE", "startTime": "2030-01-01T10:00:00"}
+                ]
+                """;
+
+        mockMvc.perform(post("/sport-events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created[*].name", contains("batch-1", "batch-3")))
+                .andExpect(jsonPath("$.created[0].id").isNumber())
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[0].errors[0].field").value("name"));
+    }
+
+    @Test
+    @DisplayName("When changing statuses in bulk, valid transitions are applied and the rest are reported")
+    void testBulkStatusChange() throws Exception {
+        var created = mockMvc.perform(post("/sport-events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [
+                                    {"name": "bulk-1", "sportType": "BASEBALL", "eventStatus": "INACTIVE", "startTime": "2030-01-01T10:00:00"},
+                                    {"name": "bulk-2", "sportType": "BASEBALL", "eventStatus": "FINISHED", "startTime": "2030-01-01T10:00:00"}
+                                ]
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var ids = JsonPath.<List<Integer>>read(created.getResponse().getContentAsString(), "$.created[*].id");
+
+        mockMvc.perform(patch("/sport-events/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"ids": [%d, %d], "newStatus": "ACTIVE"}
+                                """.formatted(ids.get(0), ids.get(1))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated[0].id").value(ids.get(0)))
+                .andExpect(jsonPath("$.updated[0].eventStatus").value("ACTIVE"))
+                .andExpect(jsonPath("$.rejected[0].id").value(ids.get(1)))
+                .andExpect(jsonPath("$.rejected[0].reason").value("Invalid status change from 'FINISHED' to 'ACTIVE'"));
+
+        mockMvc.perform(get("/sport-events/{id}", ids.get(0)))
+                .andExpect(jsonPath("$.eventStatus").value("ACTIVE"));
+    }
+
+    @Test
+    @DisplayName("When a bulk status change has no selector, validation fails")
+    void testBulkStatusChangeWithoutSelector() throws Exception {
+        mockMvc.perform(patch("/sport-events/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"newStatus": "ACTIVE"}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[?(@.field == 'selector')].message")
+                        .value("Either ids or currentStatus must be provided"));
+    }
+
+    @Test
+    @DisplayName("When polling with the last entity tag, the event is only sent again after it changed")
+    void testConditionalGet() throws Exception {
+        var created = mockMvc.perform(post("/sport-events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "etag-1", "sportType": "HOCKEY", "eventStatus": "INACTIVE", "startTime": "2030-01-01T10:00:00"}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var id = JsonPath.<Integer>read(created.getResponse().getContentAsString(), "$.id");
+
+        var eTag = mockMvc.perform(get("/sport-events/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+        var listTag = mockMvc.perform(get("/sport-events").param("type", "HOCKEY"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/sport-events/{id}", id).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/sport-events").param("type", "HOCKEY").header("If-None-Match", listTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(patch("/sport-events/{id}/status", id).param("newStatus", "ACTIVE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(get("/sport-events/{id}", id).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.eventStatus").value("ACTIVE"));
+        mockMvc.perform(get("/sport-events").param("type", "HOCKEY").header("If-None-Match", listTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("When asking for CBOR, events are compact arrays with enum ordinals and epoch seconds")
+    void testCborListing() throws Exception {
+        var cbor = new CBORMapper();
+        var startTime = LocalDateTime.of(2034, 5, 1, 18, 30);
+        var request = cbor.createArrayNode()
+                .addNull()
+                .add("cbor-1")
+                .add(SportType.BASKETBALL.ordinal())
+                .add(SportEventStatus.INACTIVE.ordinal())
+                .add(startTime.toEpochSecond(ZoneOffset.UTC))
+                .addNull();
+
+        mockMvc.perform(post("/sport-events")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cbor.writeValueAsBytes(request)))
+                .andExpect(status().isCreated());
+
+        var body = mockMvc.perform(get("/sport-events")
+                        .param("from", "2034-05-01T00:00:00")
+                        .param("to", "2034-05-02T00:00:00")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_CBOR_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        var events = cbor.readTree(body);
+        assertEquals(1, events.size());
+        var event = events.get(0);
+        assertTrue(event.get(0).isIntegralNumber());
+        assertEquals("cbor-1", event.get(1).asText());
+        assertEquals(SportType.BASKETBALL.ordinal(), event.get(2).asInt());
+        assertEquals(SportEventStatus.INACTIVE.ordinal(), event.get(3).asInt());
+        assertEquals(startTime.toEpochSecond(ZoneOffset.UTC), event.get(4).asLong());
+        assertEquals(0, event.get(5).asLong());
+    }
+
+    @Test
+    @DisplayName("When searching by name, terms match whole tokens and the last one as a prefix")
+    void testSearchByName() throws Exception {
+        for (var event : List.of("Aurora Borealis Derby:HOCKEY", "Aurora Cup:HOCKEY", "Aurora Borealis Open:TENNIS")) {
+            var parts = event.split(":");
+            mockMvc.perform(post("/sport-events")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {
+                                        "name": "%s",
+                                        "sportType": "%s",
+                                        "eventStatus": "INACTIVE",
+                                        "startTime": "2035-01-01T10:00:00"
+                                    }
+                                    """.formatted(parts[0], parts[1])))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/sport-events/search").param("q", "aurora BOR"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("Aurora Borealis Derby", "Aurora Borealis Open")));
+        mockMvc.perform(get("/sport-events/search").param("q", "aurora").param("type", "HOCKEY").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andExpect(jsonPath("$[*].name", contains("Aurora Borealis Derby")));
+        mockMvc.perform(get("/sport-events/search").param("q", " - "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("When an event changes status, its history and the replayed statuses follow")
+    void testStatusHistory() throws Exception {
+        var created = mockMvc.perform(post("/sport-events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "name": "History Cup",
+                                    "sportType": "TENNIS",
+                                    "eventStatus": "INACTIVE",
+                                    "startTime": "2036-01-01T10:00:00"
+                                }
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var id = ((Number) JsonPath.read(created.getResponse().getContentAsString(), "$.id")).longValue();
+        var beforeActivation = LocalDateTime.now();
+        mockMvc.perform(patch("/sport-events/{id}/status", id).param("newStatus", "ACTIVE"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/sport-events/{id}/history", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].toStatus", contains("INACTIVE", "ACTIVE")))
+                .andExpect(jsonPath("$[1].fromStatus").value("INACTIVE"));
+
+        var replayed = replay(null);
+        assertTrue(replayed.contains("{\"sportEventId\":%d,\"fromStatus\":\"INACTIVE\",\"toStatus\":\"ACTIVE\"".formatted(id)));
+        var earlier = replay(beforeActivation.toString());
+        assertTrue(earlier.contains("{\"sportEventId\":%d,\"fromStatus\":null,\"toStatus\":\"INACTIVE\"".formatted(id)));
+
+        mockMvc.perform(get("/sport-events/{id}/history", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("A replay after a snapshot combines the snapshot with the changes logged after it")
+    void testStatusSnapshot() throws Exception {
+        var snapshotted = createEvent("Snapshot Open", "2038-01-01T10:00:00");
+        mockMvc.perform(patch("/sport-events/{id}/status", snapshotted).param("newStatus", "ACTIVE"))
+                .andExpect(status().isOk());
+        var beforeSnapshot = LocalDateTime.now();
+        historySnapshotter.takeSnapshot(LocalDateTime.now());
+        var afterSnapshot = createEvent("Snapshot Masters", "2038-02-01T10:00:00");
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from sport_event_status_snapshots where sport_event_id = ? and to_status = 'ACTIVE'",
+                Integer.class, snapshotted));
+        var replayed = new HashMap<Long, SportEventStatusChangeDTO>();
+        historyService.replay(null, change -> replayed.put(change.getSportEventId(), change));
+        assertEquals(SportEventStatus.ACTIVE, replayed.get(snapshotted).getToStatus());
+        assertEquals(SportEventStatus.INACTIVE, replayed.get(afterSnapshot).getToStatus());
+        var earlier = new HashMap<Long, SportEventStatusChangeDTO>();
+        historyService.replay(beforeSnapshot, change -> earlier.put(change.getSportEventId(), change));
+        assertEquals(SportEventStatus.ACTIVE, earlier.get(snapshotted).getToStatus());
+        assertFalse(earlier.containsKey(afterSnapshot));
+    }
+
+    @Test
+    @DisplayName("When an event is created and changed, both changes are relayed from the outbox in order")
+    void testOutboxRelay() throws Exception {
+        // The file outlives the in-memory database, only what this test appends is looked at
+        var published = Files.exists(publisher.getFile()) ? Files.size(publisher.getFile()) : 0;
+        var created = mockMvc.perform(post("/sport-events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "name": "Outbox Open",
+                                    "sportType": "TENNIS",
+                                    "eventStatus": "INACTIVE",
+                                    "startTime": "2037-01-01T10:00:00"
+                                }
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var id = ((Number) JsonPath.read(created.getResponse().getContentAsString(), "$.id")).longValue();
+        mockMvc.perform(patch("/sport-events/{id}/status", id).param("newStatus", "ACTIVE"))
+                .andExpect(status().isOk());
+
+        outboxRelay.relay();
+
+        var content = Files.readAllBytes(publisher.getFile());
+        var lines = new String(Arrays.copyOfRange(content, (int) published, content.length), StandardCharsets.UTF_8).lines()
+                .filter(line -> line.contains("\"sportEventId\":%d,".formatted(id)))
+                .toList();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"type\":\"created\""));
+        assertTrue(lines.get(1).contains("\"type\":\"status-changed\""));
+        assertTrue(lines.get(1).contains("\"eventStatus\":\"ACTIVE\""));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "select count(*) from sport_event_outbox where sport_event_id = ?", Integer.class, id));
+    }
+
+    private long createEvent(String name, String startTime) throws Exception {
+        var created = mockMvc.perform(post("/sport-events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "name": "%s",
+                                    "sportType": "TENNIS",
+                                    "eventStatus": "INACTIVE",
+                                    "startTime": "%s"
+                                }
+                                """.formatted(name, startTime)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return ((Number) JsonPath.read(created.getResponse().getContentAsString(), "$.id")).longValue();
+    }
+
+    private String replay(String at) throws Exception {
+        var builder = get("/sport-events/history");
+        if (at != null) {
+            builder.param("at", at);
+        }
+        var result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
 }
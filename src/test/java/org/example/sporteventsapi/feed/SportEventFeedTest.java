@@ -0,0 +1,206 @@
+package org.example.sporteventsapi.feed;
+
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Sport event feed test")
+class SportEventFeedTest {
+
+    private SportEventFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new SportEventsProperties();
+        properties.getFeed().setBufferSize(4);
+        feed = new SportEventFeed(properties, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.shutdown();
+    }
+
+    @Test
+    @DisplayName("Subscribers only receive changes matching their filter")
+    void test_1() throws InterruptedException {
+        // Arrange
+        var football = new RecordingEmitter(1);
+        var finished = new RecordingEmitter(1);
+        feed.subscribe(SportType.FOOTBALL, null, football);
+        feed.subscribe(null, SportEventStatus.FINISHED, finished);
+
+        // Act
+        feed.onSportEventChanged(new SportEventChangedEvent(null, event(1L, SportType.FOOTBALL, SportEventStatus.INACTIVE)));
+        feed.onSportEventChanged(new SportEventChangedEvent(
+                event(2L, SportType.TENNIS, SportEventStatus.ACTIVE), event(2L, SportType.TENNIS, SportEventStatus.FINISHED)));
+
+        // Assert
+        assertTrue(football.received.await(5, TimeUnit.SECONDS));
+        assertTrue(finished.received.await(5, TimeUnit.SECONDS));
+        assertEquals(1, football.events.size());
+        assertEquals(1, finished.events.size());
+    }
+
+    @Test
+    @DisplayName("A stalled subscriber does not block publishing and is told how many changes it missed")
+    void test_2() throws InterruptedException {
+        // Arrange
+        var release = new CountDownLatch(1);
+        var stalled = new RecordingEmitter(1) {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.send(builder);
+            }
+        };
+        feed.subscribe(null, null, stalled);
+
+        // Act
+        var started = System.nanoTime();
+        for (long id = 1; id <= 100; id++) {
+            feed.onSportEventChanged(new SportEventChangedEvent(null, event(id, SportType.MMA, SportEventStatus.INACTIVE)));
+        }
+        var elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        release.countDown();
+
+        // Assert
+        assertTrue(elapsed < 1000, "publishing took " + elapsed + " ms");
+        assertTrue(stalled.awaitEvent("id:100"));
+        assertTrue(stalled.events.stream().anyMatch(event -> event.contains("event:" + SportEventFeed.OVERFLOW_EVENT)));
+        assertTrue(stalled.events.size() <= 6);
+    }
+
+    @Test
+    @DisplayName("A subscriber whose connection fails is removed")
+    void test_3() throws InterruptedException {
+        // Arrange
+        var broken = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        feed.subscribe(null, null, broken);
+
+        // Act
+        feed.heartbeat();
+
+        // Assert
+        assertTrue(awaitSubscribers(0));
+    }
+
+    @Test
+    @DisplayName("Subscribers are told when an event leaves their filter")
+    void test_4() throws InterruptedException {
+        // Arrange
+        var active = new RecordingEmitter(1);
+        feed.subscribe(null, SportEventStatus.ACTIVE, active);
+
+        // Act
+        feed.onSportEventChanged(new SportEventChangedEvent(
+                event(1L, SportType.TENNIS, SportEventStatus.ACTIVE), event(1L, SportType.TENNIS, SportEventStatus.FINISHED)));
+
+        // Assert
+        assertTrue(active.received.await(5, TimeUnit.SECONDS));
+        assertTrue(active.events.get(0).contains("event:" + SportEventFeed.STATUS_CHANGED_EVENT));
+        assertTrue(active.events.get(0).contains("FINISHED"));
+    }
+
+    @Test
+    @DisplayName("A subscriber whose write blocks longer than the write timeout is closed on the next heartbeat")
+    void test_5() throws InterruptedException {
+        // Arrange
+        var properties = new SportEventsProperties();
+        properties.getFeed().setWriteTimeout(Duration.ofMillis(50));
+        feed.shutdown();
+        feed = new SportEventFeed(properties, false);
+        var sending = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var blocked = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                sending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        feed.subscribe(null, null, blocked);
+        feed.onSportEventChanged(new SportEventChangedEvent(null, event(1L, SportType.MMA, SportEventStatus.INACTIVE)));
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+
+        // Act
+        feed.heartbeat();
+        release.countDown();
+
+        // Assert
+        assertEquals(0, feed.subscriberCount());
+    }
+
+    private boolean awaitSubscribers(int expected) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (feed.subscriberCount() == expected) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+
+    private static SportEventDTO event(Long id, SportType type, SportEventStatus status) {
+        return SportEventDTO.builder().id(id).name("event-" + id).sportType(type).eventStatus(status).build();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch received;
+
+        RecordingEmitter(int expected) {
+            this.received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            var text = new StringBuilder();
+            builder.build().forEach(part -> text.append(part.getData()));
+            events.add(text.toString());
+            received.countDown();
+        }
+
+        boolean awaitEvent(String fragment) throws InterruptedException {
+            var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (System.nanoTime() < deadline) {
+                if (events.stream().anyMatch(event -> event.contains(fragment))) {
+                    return true;
+                }
+                Thread.sleep(10);
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.sporteventsapi.history;
+
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Sport event history writer test")
+class SportEventHistoryWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    private SportEventHistoryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        var properties = new SportEventsProperties();
+        properties.getHistory().setBatchSize(2);
+        writer = new SportEventHistoryWriter(jdbcTemplate, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("Creations and status changes are written in batches just before commit, other changes are skipped")
+    @SuppressWarnings("unchecked")
+    void test_1() {
+        // Arrange
+        var inactive = event(1L, SportEventStatus.INACTIVE, 0L);
+        var active = event(1L, SportEventStatus.ACTIVE, 1L);
+        beginTransaction();
+
+        // Act
+        writer.onSportEventChanged(new SportEventChangedEvent(null, inactive));
+        writer.onSportEventChanged(new SportEventChangedEvent(inactive, active));
+        writer.onSportEventChanged(new SportEventChangedEvent(active, active.toBuilder().name("Renamed").version(2L).build()));
+        writer.onSportEventChanged(new SportEventChangedEvent(null, event(2L, SportEventStatus.INACTIVE, 0L)));
+        verifyNoInteractions(jdbcTemplate);
+        commit();
+
+        // Assert
+        var batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(SportEventHistoryWriter.INSERT), batches.capture());
+        var rows = batches.getAllValues().stream().flatMap(batch -> ((List<Object[]>) batch).stream()).toList();
+        assertEquals(3, rows.size());
+        assertArrayEquals(new Object[]{1L, null, "INACTIVE"}, slice(rows.get(0)));
+        assertArrayEquals(new Object[]{1L, "INACTIVE", "ACTIVE"}, slice(rows.get(1)));
+        assertArrayEquals(new Object[]{2L, null, "INACTIVE"}, slice(rows.get(2)));
+        assertFalse(TransactionSynchronizationManager.hasResource(writer));
+    }
+
+    @Test
+    @DisplayName("A change outside of a transaction is refused, changes already recorded by the reactive stack are skipped")
+    void test_2() {
+        // Arrange
+        var change = new SportEventChangedEvent(null, event(1L, SportEventStatus.INACTIVE, 0L));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> writer.onSportEventChanged(change));
+        writer.onSportEventChanged(change.withRecorded(true));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("A change is logged with the time it was made, not when its transaction commits")
+    @SuppressWarnings("unchecked")
+    void test_3() {
+        // Arrange
+        var changedAt = LocalDateTime.of(2030, 6, 1, 19, 0);
+        var inactive = event(1L, SportEventStatus.INACTIVE, 0L);
+        beginTransaction();
+
+        // Act
+        writer.onSportEventChanged(new SportEventChangedEvent(inactive, event(1L, SportEventStatus.ACTIVE, 1L), changedAt, false));
+        commit();
+
+        // Assert
+        var batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(SportEventHistoryWriter.INSERT), batch.capture());
+        assertEquals(changedAt, ((List<Object[]>) batch.getValue()).get(0)[3]);
+    }
+
+    @Test
+    @DisplayName("Nothing is written when the transaction rolls back")
+    void test_4() {
+        // Arrange
+        beginTransaction();
+        writer.onSportEventChanged(new SportEventChangedEvent(null, event(1L, SportEventStatus.INACTIVE, 0L)));
+
+        // Act
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        verify(jdbcTemplate, never()).batchUpdate(eq(SportEventHistoryWriter.INSERT), anyList());
+        assertFalse(TransactionSynchronizationManager.hasResource(writer));
+    }
+
+    private static void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private static void commit() {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private static Object[] slice(Object[] row) {
+        return new Object[]{row[0], row[1], row[2]};
+    }
+
+    private static SportEventDTO event(Long id, SportEventStatus status, Long version) {
+        return SportEventDTO.builder()
+                .id(id)
+                .name("Final")
+                .sportType(SportType.FOOTBALL)
+                .eventStatus(status)
+                .startTime(LocalDateTime.of(2030, 6, 1, 20, 0))
+                .version(version)
+                .build();
+    }
+}
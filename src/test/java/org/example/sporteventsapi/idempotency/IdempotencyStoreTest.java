@@ -0,0 +1,140 @@
+package org.example.sporteventsapi.idempotency;
+
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.exception.IdempotencyKeyReusedException;
+import org.example.sporteventsapi.exception.InvalidRequestParameterException;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Idempotency store test")
+class IdempotencyStoreTest {
+
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(new SportEventsProperties());
+    }
+
+    @Test
+    @DisplayName("A retried create returns the stored event without running again")
+    void test_1() {
+        // Arrange
+        var request = request("Final");
+        var calls = new AtomicInteger();
+
+        // Act
+        var first = store.execute("key-1", request, () -> created(calls.incrementAndGet()));
+        var second = store.execute("key-1", request, () -> created(calls.incrementAndGet()));
+
+        // Assert
+        assertEquals(1, calls.get());
+        assertFalse(first.replayed());
+        assertTrue(second.replayed());
+        assertEquals(first.sportEvent(), second.sportEvent());
+    }
+
+    @Test
+    @DisplayName("Concurrent duplicates wait for the first create instead of inserting again")
+    void test_2() throws Exception {
+        // Arrange
+        var request = request("Final");
+        var calls = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(8);
+        var outcomes = new ArrayList<Future<IdempotencyStore.Outcome>>();
+
+        // Act
+        try {
+            for (int i = 0; i < 8; i++) {
+                outcomes.add(executor.submit(() -> store.execute("key-1", request, () -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return created(1L);
+                })));
+            }
+            release.countDown();
+            for (var outcome : outcomes) {
+                assertEquals(1L, outcome.get(5, TimeUnit.SECONDS).sportEvent().getId());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("Reusing a key for a different payload is rejected")
+    void test_3() {
+        // Arrange
+        store.execute("key-1", request("Final"), () -> created(1L));
+
+        // Act & Assert
+        var exception = assertThrows(IdempotencyKeyReusedException.class,
+                () -> store.execute("key-1", request("Semi-final"), () -> created(2L)));
+        assertEquals("Idempotency key 'key-1' was already used with a different request", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("A failed create releases the key for the retry")
+    void test_4() {
+        // Arrange
+        var request = request("Final");
+        assertThrows(IllegalStateException.class, () -> store.execute("key-1", request, () -> {
+            throw new IllegalStateException("database down");
+        }));
+
+        // Act
+        var retry = store.execute("key-1", request, () -> created(1L));
+
+        // Assert
+        assertFalse(retry.replayed());
+        assertEquals(1L, retry.sportEvent().getId());
+    }
+
+    @Test
+    @DisplayName("Blank and oversized keys are rejected")
+    void test_5() {
+        // Act & Assert
+        assertThrows(InvalidRequestParameterException.class, () -> store.claim(" ", request("Final")));
+        assertThrows(InvalidRequestParameterException.class, () -> store.claim("k".repeat(256), request("Final")));
+    }
+
+    private static SportEventDTO request(String name) {
+        return SportEventDTO.builder()
+                .name(name)
+                .sportType(SportType.FOOTBALL)
+                .eventStatus(SportEventStatus.INACTIVE)
+                .startTime(LocalDateTime.of(2030, 6, 1, 20, 0))
+                .build();
+    }
+
+    private static SportEventDTO created(long id) {
+        return request("Final").toBuilder().id(id).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
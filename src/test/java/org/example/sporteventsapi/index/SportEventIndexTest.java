@@ -0,0 +1,200 @@
+package org.example.sporteventsapi.index;
+
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.repository.SportEventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Sport event index test")
+class SportEventIndexTest {
+
+    @Mock
+    private SportEventRepository sportEventRepository;
+
+    @InjectMocks
+    private SportEventIndex sportEventIndex;
+
+    @Test
+    @DisplayName("Rebuild loads every event from the repository")
+    void test_1() {
+        // Arrange
+        var stored = new SportEventDTO(5L, "Stored", SportType.HOCKEY, SportEventStatus.INACTIVE, LocalDateTime.now(), 0L);
+        when(sportEventRepository.findPage(any(), any(), any(), anyInt())).thenReturn(List.of(stored));
+
+        // Act
+        sportEventIndex.rebuild();
+
+        // Assert
+        assertTrue(sportEventIndex.isReady());
+        assertEquals("Stored", sportEventIndex.get(5L).getName());
+        assertEquals(1, sportEventIndex.findPage(SportType.HOCKEY, SportEventStatus.INACTIVE, 0L, 10).size());
+    }
+
+    @Test
+    @DisplayName("Status change moves the event to its new bucket")
+    void test_2() {
+        // Arrange
+        sportEventIndex.put(event(1L, SportType.FOOTBALL, SportEventStatus.INACTIVE));
+
+        // Act
+        sportEventIndex.onSportEventChanged(new SportEventChangedEvent(
+                event(1L, SportType.FOOTBALL, SportEventStatus.INACTIVE),
+                event(1L, SportType.FOOTBALL, SportEventStatus.ACTIVE)));
+
+        // Assert
+        assertTrue(sportEventIndex.findPage(SportType.FOOTBALL, SportEventStatus.INACTIVE, 0L, 10).isEmpty());
+        assertEquals(1, sportEventIndex.findPage(SportType.FOOTBALL, SportEventStatus.ACTIVE, 0L, 10).size());
+    }
+
+    @Test
+    @DisplayName("Bucket versions change only for the buckets an event leaves or enters")
+    void test_5() {
+        // Arrange
+        sportEventIndex.put(event(1L, SportType.FOOTBALL, SportEventStatus.INACTIVE));
+        var football = sportEventIndex.getVersion(SportType.FOOTBALL, null);
+        var tennis = sportEventIndex.getVersion(SportType.TENNIS, null);
+        var inactive = sportEventIndex.getVersion(SportType.FOOTBALL, SportEventStatus.INACTIVE);
+
+        // Act
+        sportEventIndex.put(event(1L, SportType.FOOTBALL, SportEventStatus.ACTIVE));
+
+        // Assert
+        assertTrue(sportEventIndex.getVersion(SportType.FOOTBALL, null) > football);
+        assertTrue(sportEventIndex.getVersion(SportType.FOOTBALL, SportEventStatus.INACTIVE) > inactive);
+        assertEquals(tennis, sportEventIndex.getVersion(SportType.TENNIS, null));
+    }
+
+    @Test
+    @DisplayName("Pages across several buckets are ordered by id and honour the keyset")
+    void test_3() {
+        // Arrange
+        sportEventIndex.put(event(3L, SportType.TENNIS, SportEventStatus.ACTIVE));
+        sportEventIndex.put(event(1L, SportType.MMA, SportEventStatus.ACTIVE));
+        sportEventIndex.put(event(2L, SportType.TENNIS, SportEventStatus.FINISHED));
+        sportEventIndex.put(event(4L, SportType.BASEBALL, SportEventStatus.ACTIVE));
+
+        // Act
+        var firstPage = sportEventIndex.findPage(null, null, 0L, 2);
+        var secondPage = sportEventIndex.findPage(null, null, 2L, 2);
+        var active = sportEventIndex.findPage(null, SportEventStatus.ACTIVE, 0L, 10);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), firstPage.stream().map(SportEventDTO::getId).toList());
+        assertEquals(List.of(3L, 4L), secondPage.stream().map(SportEventDTO::getId).toList());
+        assertEquals(List.of(1L, 3L, 4L), active.stream().map(SportEventDTO::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Concurrent status changes leave every event in exactly one bucket")
+    void test_4() throws InterruptedException {
+        // Arrange
+        var statuses = SportEventStatus.values();
+        for (long id = 1; id <= 100; id++) {
+            sportEventIndex.put(event(id, SportType.FOOTBALL, SportEventStatus.INACTIVE));
+        }
+        var executor = Executors.newFixedThreadPool(8);
+        var done = new CountDownLatch(8);
+
+        // Act
+        for (int thread = 0; thread < 8; thread++) {
+            var offset = thread;
+            executor.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    var id = 1L + (i + offset) % 100;
+                    sportEventIndex.put(event(id, SportType.FOOTBALL, statuses[(i + offset) % statuses.length]));
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // Assert
+        var total = 0;
+        for (var status : statuses) {
+            for (var sportEvent : sportEventIndex.findPage(SportType.FOOTBALL, status, 0L, 1000)) {
+                assertEquals(status, sportEventIndex.get(sportEvent.getId()).getEventStatus());
+                total++;
+            }
+        }
+        assertEquals(100, total);
+        assertEquals(100, sportEventIndex.findPage(SportType.FOOTBALL, null, 0L, 1000).size());
+    }
+
+    @Test
+    @DisplayName("A change arriving after a newer one for the same event is ignored")
+    void test_6() {
+        // Arrange
+        var version1 = event(1L, SportType.FOOTBALL, SportEventStatus.ACTIVE).toBuilder().version(1L).build();
+        var version2 = event(1L, SportType.FOOTBALL, SportEventStatus.FINISHED).toBuilder().version(2L).build();
+        sportEventIndex.put(event(1L, SportType.FOOTBALL, SportEventStatus.INACTIVE).toBuilder().version(0L).build());
+
+        // Act
+        sportEventIndex.onSportEventChanged(new SportEventChangedEvent(version1, version2));
+        sportEventIndex.onSportEventChanged(new SportEventChangedEvent(null, version1));
+
+        // Assert
+        assertEquals(version2, sportEventIndex.get(1L));
+        assertTrue(sportEventIndex.findPage(SportType.FOOTBALL, SportEventStatus.ACTIVE, 0L, 10).isEmpty());
+        assertEquals(1, sportEventIndex.findPage(SportType.FOOTBALL, SportEventStatus.FINISHED, 0L, 10).size());
+    }
+
+    @Test
+    @DisplayName("An event changing status while unfiltered pages are read is never missing from them")
+    void test_7() throws InterruptedException {
+        // Arrange
+        var statuses = SportEventStatus.values();
+        for (long id = 1; id <= 20; id++) {
+            sportEventIndex.put(event(id, SportType.values()[(int) id % SportType.values().length], SportEventStatus.INACTIVE));
+        }
+        var running = new AtomicBoolean(true);
+        var writer = new Thread(() -> {
+            for (long version = 1; running.get(); version++) {
+                sportEventIndex.put(event(10L, SportType.values()[10 % SportType.values().length], statuses[(int) (version % statuses.length)])
+                        .toBuilder().version(version).build());
+            }
+        });
+        writer.start();
+
+        // Act & Assert
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                var ids = sportEventIndex.findPage(null, null, 5L, 10).stream().map(SportEventDTO::getId).toList();
+                assertEquals(List.of(6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L), ids);
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    private static SportEventDTO event(Long id, SportType type, SportEventStatus status) {
+        return SportEventDTO.builder()
+                .id(id)
+                .name("event-" + id)
+                .sportType(type)
+                .eventStatus(status)
+                .startTime(LocalDateTime.of(2030, 1, 1, 10, 0))
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.sporteventsapi.index;
+
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.repository.SportEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Sport event name index test")
+class SportEventNameIndexTest {
+
+    @Mock
+    private SportEventRepository sportEventRepository;
+
+    private SportEventIndex sportEventIndex;
+
+    private SportEventNameIndex nameIndex;
+
+    @BeforeEach
+    void setUp() {
+        sportEventIndex = new SportEventIndex(sportEventRepository);
+        nameIndex = new SportEventNameIndex(sportEventRepository, sportEventIndex);
+    }
+
+    @Test
+    @DisplayName("Rebuild indexes the names of stored events")
+    void test_1() {
+        // Arrange
+        var stored = event(5L, "Champions League Final", SportType.FOOTBALL, SportEventStatus.INACTIVE);
+        when(sportEventRepository.findPage(any(), any(), any(), anyInt())).thenReturn(List.of(stored));
+        sportEventIndex.rebuild();
+
+        // Act
+        nameIndex.rebuild();
+
+        // Assert
+        assertTrue(nameIndex.isReady());
+        assertEquals(List.of(stored), nameIndex.search(List.of("final"), null, null, 0L, 10));
+    }
+
+    @Test
+    @DisplayName("Every term has to match, the last one as a prefix, in any case")
+    void test_2() {
+        // Arrange
+        var final1 = create(1L, "Champions League Final", SportType.FOOTBALL, SportEventStatus.INACTIVE);
+        var semi = create(2L, "Champions League Semi-final", SportType.FOOTBALL, SportEventStatus.INACTIVE);
+        create(3L, "Europa League Final", SportType.FOOTBALL, SportEventStatus.INACTIVE);
+
+        // Act & Assert
+        assertEquals(List.of(final1, semi), nameIndex.search(SportEventNameIndex.tokenize("CHAMPIONS lea"), null, null, 0L, 10));
+        assertEquals(List.of(semi), nameIndex.search(SportEventNameIndex.tokenize("champions semi"), null, null, 0L, 10));
+        assertEquals(List.of(final1, semi), nameIndex.search(SportEventNameIndex.tokenize("champions fin"), null, null, 0L, 10));
+        assertTrue(nameIndex.search(SportEventNameIndex.tokenize("champion final"), null, null, 0L, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("A prefix spanning several tokens returns every event once, in id order, page by page")
+    void test_3() {
+        // Arrange
+        var first = create(1L, "Final of finals", SportType.TENNIS, SportEventStatus.INACTIVE);
+        var second = create(2L, "Finland Open", SportType.TENNIS, SportEventStatus.INACTIVE);
+        var third = create(3L, "Grand Final", SportType.TENNIS, SportEventStatus.INACTIVE);
+
+        // Act
+        var firstPage = nameIndex.search(List.of("fin"), null, null, 0L, 2);
+        var secondPage = nameIndex.search(List.of("fin"), null, null, 2L, 2);
+
+        // Assert
+        assertEquals(List.of(first, second), firstPage);
+        assertEquals(List.of(third), secondPage);
+    }
+
+    @Test
+    @DisplayName("Type and status filters follow status changes")
+    void test_4() {
+        // Arrange
+        var hockey = create(1L, "Winter Classic", SportType.HOCKEY, SportEventStatus.INACTIVE);
+        create(2L, "Winter Cup", SportType.TENNIS, SportEventStatus.INACTIVE);
+        var active = hockey.toBuilder().eventStatus(SportEventStatus.ACTIVE).version(1L).build();
+        var changed = new SportEventChangedEvent(hockey, active);
+        sportEventIndex.onSportEventChanged(changed);
+        nameIndex.onSportEventChanged(changed);
+
+        // Act
+        var result = nameIndex.search(List.of("winter"), SportType.HOCKEY, SportEventStatus.ACTIVE, 0L, 10);
+
+        // Assert
+        assertEquals(List.of(active), result);
+        assertTrue(nameIndex.search(List.of("winter"), null, SportEventStatus.FINISHED, 0L, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Tokens split at punctuation and are de-duplicated")
+    void test_5() {
+        // Act & Assert
+        assertEquals(List.of("real", "madrid", "vs", "barça", "2030"), SportEventNameIndex.tokenize("Real Madrid vs. Barça (2030) - real"));
+        assertTrue(SportEventNameIndex.tokenize("  -- ").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Tokens starting with a prefix are counted up to one past the limit")
+    void test_6() {
+        // Arrange
+        create(1L, "Final of finals", SportType.TENNIS, SportEventStatus.INACTIVE);
+        create(2L, "Finland Open", SportType.TENNIS, SportEventStatus.INACTIVE);
+
+        // Act & Assert
+        assertEquals(3, nameIndex.prefixTokenCount("fin", 10));
+        assertEquals(2, nameIndex.prefixTokenCount("fin", 1));
+        assertEquals(0, nameIndex.prefixTokenCount("open-air", 10));
+    }
+
+    private SportEventDTO create(Long id, String name, SportType type, SportEventStatus status) {
+        var sportEvent = event(id, name, type, status);
+        var created = new SportEventChangedEvent(null, sportEvent);
+        sportEventIndex.onSportEventChanged(created);
+        nameIndex.onSportEventChanged(created);
+        return sportEvent;
+    }
+
+    private static SportEventDTO event(Long id, String name, SportType type, SportEventStatus status) {
+        return new SportEventDTO(id, name, type, status, LocalDateTime.of(2030, 1, 1, 12, 0), 0L);
+    }
+}
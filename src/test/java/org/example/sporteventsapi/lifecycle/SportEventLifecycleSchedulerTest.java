@@ -0,0 +1,226 @@
+package org.example.sporteventsapi.lifecycle;
+
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.dto.SportEventStatusChangeRequest;
+import org.example.sporteventsapi.dto.SportEventStatusChangeResult;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.sporteventsapi.metrics.SportEventMetrics;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.repository.SportEventRepository;
+import org.example.sporteventsapi.repository.SportEventSchedule;
+import org.example.sporteventsapi.service.SportEventBatchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Sport event lifecycle scheduler test")
+class SportEventLifecycleSchedulerTest {
+
+    @Mock
+    private SportEventRepository sportEventRepository;
+
+    @Mock
+    private SportEventBatchService batchService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final SportEventsProperties properties = new SportEventsProperties();
+
+    private SportEventLifecycleScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new SportEventLifecycleScheduler(sportEventRepository, batchService, properties,
+                new SportEventMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Recovered transitions are applied in one batch once they are due")
+    void test_1() {
+        // Arrange
+        var startTime = LocalDateTime.now().plusHours(1);
+        when(sportEventRepository.findSchedules(any(), anyLong(), any(Limit.class))).thenReturn(List.of(
+                schedule(1L, SportEventStatus.INACTIVE, startTime),
+                schedule(2L, SportEventStatus.INACTIVE, startTime),
+                schedule(3L, SportEventStatus.ACTIVE, startTime)));
+        when(batchService.changeEventStatuses(any())).thenReturn(new SportEventStatusChangeResult(List.of(), List.of()));
+        scheduler.recover();
+
+        // Act
+        scheduler.runDueTransitions(startTime.minusMinutes(10));
+        verifyNoInteractions(batchService);
+        scheduler.runDueTransitions(startTime.minusMinutes(5));
+
+        // Assert
+        var request = ArgumentCaptor.forClass(SportEventStatusChangeRequest.class);
+        verify(batchService).changeEventStatuses(request.capture());
+        assertEquals(List.of(1L, 2L), request.getValue().getIds());
+        assertEquals(SportEventStatus.ACTIVE, request.getValue().getNewStatus());
+        assertEquals(1, scheduler.pendingTransitions());
+    }
+
+    @Test
+    @DisplayName("A status change replaces the pending transition of the event")
+    void test_2() {
+        // Arrange
+        var startTime = LocalDateTime.now().plusHours(1);
+        scheduler.onSportEventChanged(new SportEventChangedEvent(null, event(SportEventStatus.INACTIVE, startTime)));
+
+        // Act
+        scheduler.onSportEventChanged(new SportEventChangedEvent(
+                event(SportEventStatus.INACTIVE, startTime), event(SportEventStatus.ACTIVE, startTime)));
+        scheduler.runDueTransitions(startTime);
+
+        // Assert
+        assertEquals(1, scheduler.pendingTransitions());
+        verifyNoInteractions(batchService);
+
+        // Act
+        scheduler.onSportEventChanged(new SportEventChangedEvent(
+                event(SportEventStatus.ACTIVE, startTime), event(SportEventStatus.FINISHED, startTime)));
+
+        // Assert
+        assertEquals(0, scheduler.pendingTransitions());
+    }
+
+    @Test
+    @DisplayName("Events that already started are never scheduled for activation")
+    void test_3() {
+        // Act
+        scheduler.onSportEventChanged(new SportEventChangedEvent(null,
+                event(SportEventStatus.INACTIVE, LocalDateTime.now().minusMinutes(1))));
+
+        // Assert
+        assertEquals(0, scheduler.pendingTransitions());
+    }
+
+    @Test
+    @DisplayName("Due transitions are applied in chunks of the lifecycle chunk size")
+    void test_4() {
+        // Arrange
+        properties.getLifecycle().setChunkSize(2);
+        var startTime = LocalDateTime.now().plusHours(1);
+        when(sportEventRepository.findSchedules(any(), anyLong(), any(Limit.class))).thenReturn(List.of(
+                schedule(1L, SportEventStatus.INACTIVE, startTime),
+                schedule(2L, SportEventStatus.INACTIVE, startTime),
+                schedule(3L, SportEventStatus.INACTIVE, startTime)));
+        when(batchService.changeEventStatuses(any())).thenReturn(new SportEventStatusChangeResult(List.of(), List.of()));
+        scheduler.recover();
+
+        // Act
+        scheduler.runDueTransitions(startTime);
+
+        // Assert
+        var request = ArgumentCaptor.forClass(SportEventStatusChangeRequest.class);
+        verify(batchService, times(2)).changeEventStatuses(request.capture());
+        assertEquals(List.of(1L, 2L), request.getAllValues().get(0).getIds());
+        assertEquals(List.of(3L), request.getAllValues().get(1).getIds());
+    }
+
+    @Test
+    @DisplayName("A failed batch is counted and retried after a growing backoff")
+    void test_5() {
+        // Arrange
+        var startTime = LocalDateTime.now().plusHours(1);
+        when(sportEventRepository.findSchedules(any(), anyLong(), any(Limit.class))).thenReturn(List.of(
+                schedule(1L, SportEventStatus.INACTIVE, startTime),
+                schedule(2L, SportEventStatus.INACTIVE, startTime)));
+        when(batchService.changeEventStatuses(any()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(new SportEventStatusChangeResult(List.of(), List.of()));
+        scheduler.recover();
+        var failedAt = startTime.minusMinutes(5);
+
+        // Act
+        scheduler.runDueTransitions(failedAt);
+
+        // Assert
+        assertEquals(2, scheduler.pendingTransitions());
+        assertEquals(2.0, meterRegistry.get(SportEventMetrics.LIFECYCLE_FAILURES).counter().count());
+
+        // Act
+        scheduler.runDueTransitions(failedAt.plusSeconds(4));
+        scheduler.runDueTransitions(failedAt.plusSeconds(5));
+        scheduler.runDueTransitions(failedAt.plusSeconds(14));
+
+        // Assert
+        verify(batchService, times(2)).changeEventStatuses(any());
+        assertEquals(2, scheduler.pendingTransitions());
+        assertEquals(4.0, meterRegistry.get(SportEventMetrics.LIFECYCLE_FAILURES).counter().count());
+
+        // Act
+        scheduler.runDueTransitions(failedAt.plusSeconds(15));
+
+        // Assert
+        var request = ArgumentCaptor.forClass(SportEventStatusChangeRequest.class);
+        verify(batchService, times(3)).changeEventStatuses(request.capture());
+        assertEquals(List.of(1L, 2L), request.getValue().getIds());
+        assertEquals(0, scheduler.pendingTransitions());
+    }
+
+    @Test
+    @DisplayName("A live change made while a batch failed is not replaced by the retry")
+    void test_6() {
+        // Arrange
+        var startTime = LocalDateTime.now().plusHours(1);
+        scheduler.onSportEventChanged(new SportEventChangedEvent(null, event(SportEventStatus.INACTIVE, startTime)));
+        when(batchService.changeEventStatuses(any())).thenAnswer(invocation -> {
+            scheduler.onSportEventChanged(new SportEventChangedEvent(
+                    event(SportEventStatus.INACTIVE, startTime), event(SportEventStatus.FINISHED, startTime)));
+            throw new IllegalStateException("database unavailable");
+        });
+
+        // Act
+        scheduler.runDueTransitions(startTime);
+
+        // Assert
+        assertEquals(0, scheduler.pendingTransitions());
+    }
+
+    private static SportEventDTO event(SportEventStatus status, LocalDateTime startTime) {
+        return SportEventDTO.builder()
+                .id(1L)
+                .name("event")
+                .sportType(SportType.FOOTBALL)
+                .eventStatus(status)
+                .startTime(startTime)
+                .build();
+    }
+
+    private static SportEventSchedule schedule(Long id, SportEventStatus status, LocalDateTime startTime) {
+        return new SportEventSchedule() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public SportEventStatus getEventStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDateTime getStartTime() {
+                return startTime;
+            }
+        };
+    }
+}
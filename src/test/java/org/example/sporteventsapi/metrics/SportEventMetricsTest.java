@@ -0,0 +1,90 @@
+package org.example.sporteventsapi.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.sporteventsapi.exception.InvalidStatusChangeException;
+import org.example.sporteventsapi.exception.NoRecordFoundException;
+import org.example.sporteventsapi.model.SportEvent;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.repository.SportEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SportEventMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SportEventMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new SportEventMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Listings are timed per filter combination and source")
+    void test_1() {
+        // Act
+        metrics.recordQuery(SportType.FOOTBALL, null, "index", 1_000, 3);
+        metrics.recordQuery(SportType.FOOTBALL, null, "index", 2_000, 5);
+
+        // Assert
+        var timer = meterRegistry.get(SportEventMetrics.QUERY_TIMER)
+                .tags("type", "FOOTBALL", "status", "any", "source", "index")
+                .timer();
+        assertEquals(2, timer.count());
+        var rows = meterRegistry.get(SportEventMetrics.QUERY_ROWS).tags("type", "FOOTBALL", "status", "any").summary();
+        assertEquals(8, rows.totalAmount());
+    }
+
+    @Test
+    @DisplayName("Rejected status changes are counted by exception and transition")
+    void test_2() {
+        // Act
+        metrics.statusChangeRejected(InvalidStatusChangeException.class, SportEventStatus.FINISHED, SportEventStatus.ACTIVE);
+        metrics.statusChangeRejected(InvalidStatusChangeException.class, SportEventStatus.FINISHED, SportEventStatus.ACTIVE);
+        metrics.statusChangeRejected(NoRecordFoundException.class, null, SportEventStatus.ACTIVE);
+
+        // Assert
+        assertEquals(2, meterRegistry.get(SportEventMetrics.STATUS_CHANGE_ERRORS)
+                .tags("exception", "InvalidStatusChangeException", "from", "FINISHED", "to", "ACTIVE")
+                .counter().count());
+        assertEquals(1, meterRegistry.get(SportEventMetrics.STATUS_CHANGE_ERRORS)
+                .tags("exception", "NoRecordFoundException", "from", "any", "to", "ACTIVE")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("Repository calls record the number of rows per method")
+    void test_3() {
+        // Arrange
+        var repository = mock(SportEventRepository.class);
+        when(repository.findAllByEventStatus(SportType.TENNIS, SportEventStatus.ACTIVE, Limit.of(10)))
+                .thenReturn(List.of(new SportEvent(), new SportEvent()));
+        when(repository.findById(1L)).thenReturn(Optional.empty());
+        var proxyFactory = new AspectJProxyFactory(repository);
+        proxyFactory.addAspect(new RepositoryRowsAspect(meterRegistry));
+        SportEventRepository proxy = proxyFactory.getProxy();
+
+        // Act
+        proxy.findAllByEventStatus(SportType.TENNIS, SportEventStatus.ACTIVE, Limit.of(10));
+        proxy.findById(1L);
+
+        // Assert
+        assertEquals(2, meterRegistry.get(RepositoryRowsAspect.REPOSITORY_ROWS)
+                .tag("method", "findAllByEventStatus").summary().totalAmount());
+        assertEquals(1, meterRegistry.get(RepositoryRowsAspect.REPOSITORY_ROWS)
+                .tag("method", "findById").summary().count());
+    }
+}
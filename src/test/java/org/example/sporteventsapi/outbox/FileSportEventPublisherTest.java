@@ -0,0 +1,42 @@
+package org.example.sporteventsapi.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("File sport event publisher test")
+class FileSportEventPublisherTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Messages are appended as one JSON line each with the event embedded as is")
+    void test_1() throws Exception {
+        // Arrange
+        var file = directory.resolve("outbox/sport-events.ndjson");
+        var publisher = new FileSportEventPublisher(new ObjectMapper().registerModule(new JavaTimeModule()), file);
+        var createdAt = LocalDateTime.of(2030, 6, 1, 20, 0);
+
+        // Act
+        publisher.publish(List.of(
+                new SportEventOutboxMessage(1L, 7L, SportEventOutboxMessage.CREATED, "{\"id\":7,\"eventStatus\":\"INACTIVE\"}", createdAt)));
+        publisher.publish(List.of(
+                new SportEventOutboxMessage(2L, 7L, SportEventOutboxMessage.STATUS_CHANGED, "{\"id\":7,\"eventStatus\":\"ACTIVE\"}", createdAt)));
+
+        // Assert
+        var lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"id\":1,\"sportEventId\":7,\"type\":\"created\",\"sportEvent\":{\"id\":7,\"eventStatus\":\"INACTIVE\"}"));
+        assertTrue(lines.get(1).contains("\"type\":\"status-changed\",\"sportEvent\":{\"id\":7,\"eventStatus\":\"ACTIVE\"}"));
+    }
+}
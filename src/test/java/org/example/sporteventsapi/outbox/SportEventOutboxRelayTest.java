@@ -0,0 +1,102 @@
+package org.example.sporteventsapi.outbox;
+
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Sport event outbox relay test")
+class SportEventOutboxRelayTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    private SportEventPublisher publisher;
+
+    private SportEventOutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        publisher = mock(SportEventPublisher.class);
+        var transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        var properties = new SportEventsProperties();
+        properties.getOutbox().setBatchSize(2);
+        properties.getOutbox().setMaxBatchesPerRun(3);
+        relay = new SportEventOutboxRelay(jdbcTemplate, transactionTemplate, publisher, properties);
+    }
+
+    @Test
+    @DisplayName("Full batches are relayed until the outbox is drained, published rows are deleted")
+    @SuppressWarnings("unchecked")
+    void test_1() {
+        // Arrange
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class)))
+                .thenReturn(List.of(message(1L), message(2L)))
+                .thenReturn(List.of(message(3L)));
+
+        // Act
+        relay.relay();
+
+        // Assert
+        var order = inOrder(publisher, jdbcTemplate);
+        order.verify(publisher).publish(List.of(message(1L), message(2L)));
+        order.verify(jdbcTemplate).batchUpdate(eq(SportEventOutboxRelay.DELETE), anyList());
+        order.verify(publisher).publish(List.of(message(3L)));
+        order.verify(jdbcTemplate).batchUpdate(eq(SportEventOutboxRelay.DELETE), anyList());
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class));
+    }
+
+    @Test
+    @DisplayName("Nothing is deleted when publishing fails, the batch is published again next time")
+    @SuppressWarnings("unchecked")
+    void test_2() {
+        // Arrange
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenReturn(List.of(message(1L)));
+        doThrow(new IllegalStateException("broker down")).doNothing().when(publisher).publish(anyList());
+
+        // Act
+        relay.relay();
+        relay.relay();
+
+        // Assert
+        verify(publisher, times(2)).publish(List.of(message(1L)));
+        verify(jdbcTemplate, times(1)).batchUpdate(eq(SportEventOutboxRelay.DELETE), anyList());
+    }
+
+    @Test
+    @DisplayName("A run stops after its maximum number of batches, the rest is left to the next run")
+    @SuppressWarnings("unchecked")
+    void test_3() {
+        // Arrange
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenReturn(List.of(message(1L), message(2L)));
+
+        // Act
+        relay.relay();
+
+        // Assert
+        verify(publisher, times(3)).publish(anyList());
+        verify(jdbcTemplate, times(3)).query(anyString(), any(RowMapper.class));
+    }
+
+    private static SportEventOutboxMessage message(long id) {
+        return new SportEventOutboxMessage(id, 7L, SportEventOutboxMessage.STATUS_CHANGED, "{\"id\":7}",
+                LocalDateTime.of(2030, 6, 1, 20, 0));
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.sporteventsapi.ratelimit;
+
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Load shedder test")
+class LoadShedderTest {
+
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    private LoadShedder loadShedder;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new SportEventsProperties.Shedding();
+        properties.setLatencyTarget(Duration.ofMillis(100));
+        properties.setMaxConcurrency(10);
+        properties.setMinConcurrency(2);
+        properties.setBackoffRatio(0.5);
+        loadShedder = new LoadShedder(properties);
+    }
+
+    @Test
+    @DisplayName("Requests beyond the concurrency limit are shed")
+    void test_1() {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            assertTrue(loadShedder.tryAcquire());
+        }
+
+        // Assert
+        assertFalse(loadShedder.tryAcquire());
+        assertEquals(10, loadShedder.getInFlight());
+    }
+
+    @Test
+    @DisplayName("A slow request lowers the limit once per latency target")
+    void test_2() {
+        // Arrange
+        loadShedder.tryAcquire();
+        loadShedder.tryAcquire();
+
+        // Act
+        loadShedder.release(SLOW);
+        loadShedder.release(SLOW);
+
+        // Assert
+        assertEquals(5, loadShedder.getLimit());
+        assertEquals(0, loadShedder.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Fast requests grow the limit back while it is in use")
+    void test_3() {
+        // Arrange
+        loadShedder.tryAcquire();
+        loadShedder.release(SLOW);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(loadShedder.tryAcquire());
+        }
+
+        // Act
+        loadShedder.release(FAST);
+        loadShedder.release(FAST);
+
+        // Assert
+        assertEquals(7, loadShedder.getLimit());
+    }
+
+    @Test
+    @DisplayName("Released streams do not count as latency samples")
+    void test_4() {
+        // Arrange
+        loadShedder.tryAcquire();
+
+        // Act
+        loadShedder.release(-1);
+
+        // Assert
+        assertEquals(10, loadShedder.getLimit());
+        assertEquals(0, loadShedder.getInFlight());
+    }
+}
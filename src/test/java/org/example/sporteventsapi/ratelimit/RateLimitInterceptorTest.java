@@ -0,0 +1,39 @@
+package org.example.sporteventsapi.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Rate limit interceptor test")
+class RateLimitInterceptorTest {
+
+    @Test
+    @DisplayName("Blank or unknown filter values do not make a listing filtered")
+    void test_1() {
+        // Act & Assert
+        assertEquals(RateLimitRoute.UNFILTERED_LIST, RateLimitInterceptor.routeOf(get("/sport-events", "type", "")));
+        assertEquals(RateLimitRoute.UNFILTERED_LIST, RateLimitInterceptor.routeOf(get("/sport-events", "status", "SOON")));
+        assertEquals(RateLimitRoute.UNFILTERED_LIST, RateLimitInterceptor.routeOf(get("/sport-events", "from", "")));
+        assertEquals(RateLimitRoute.FILTERED_LIST, RateLimitInterceptor.routeOf(get("/sport-events", "type", "TENNIS")));
+    }
+
+    @Test
+    @DisplayName("A time range alone and streams get their own routes")
+    void test_2() {
+        // Act & Assert
+        assertEquals(RateLimitRoute.TIME_RANGE, RateLimitInterceptor.routeOf(get("/sport-events", "from", "2030-01-01T00:00:00")));
+        assertEquals(RateLimitRoute.STREAM, RateLimitInterceptor.routeOf(get("/sport-events/stream", "type", "TENNIS")));
+        assertEquals(RateLimitRoute.STREAM, RateLimitInterceptor.routeOf(get("/sport-events/history", "at", "2030-01-01T00:00:00")));
+        assertEquals(RateLimitRoute.BY_ID, RateLimitInterceptor.routeOf(get("/sport-events/{id}", "type", "")));
+    }
+
+    private static MockHttpServletRequest get(String pattern, String parameter, String value) {
+        var request = new MockHttpServletRequest("GET", pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        request.setParameter(parameter, value);
+        return request;
+    }
+}
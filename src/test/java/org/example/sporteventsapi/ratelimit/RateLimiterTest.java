@@ -0,0 +1,71 @@
+package org.example.sporteventsapi.ratelimit;
+
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Rate limiter test")
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new SportEventsProperties.RateLimit();
+        properties.setUnfilteredList(new SportEventsProperties.Budget(2, 3));
+        rateLimiter = new RateLimiter(properties, clock::get);
+    }
+
+    @Test
+    @DisplayName("A burst is admitted up to the bucket capacity, then the client has to wait one refill")
+    void test_1() {
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("ip:10.0.0.1", RateLimitRoute.UNFILTERED_LIST));
+        }
+        var wait = rateLimiter.tryAcquire("ip:10.0.0.1", RateLimitRoute.UNFILTERED_LIST);
+
+        // Assert
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), wait);
+    }
+
+    @Test
+    @DisplayName("The bucket refills at the configured rate")
+    void test_2() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("ip:10.0.0.1", RateLimitRoute.UNFILTERED_LIST);
+        }
+
+        // Act
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        var refilled = rateLimiter.tryAcquire("ip:10.0.0.1", RateLimitRoute.UNFILTERED_LIST);
+        var exhausted = rateLimiter.tryAcquire("ip:10.0.0.1", RateLimitRoute.UNFILTERED_LIST);
+
+        // Assert
+        assertEquals(0, refilled);
+        assertTrue(exhausted > 0);
+    }
+
+    @Test
+    @DisplayName("Clients and routes have separate budgets")
+    void test_3() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("ip:10.0.0.1", RateLimitRoute.UNFILTERED_LIST);
+        }
+
+        // Act & Assert
+        assertTrue(rateLimiter.tryAcquire("ip:10.0.0.1", RateLimitRoute.UNFILTERED_LIST) > 0);
+        assertEquals(0, rateLimiter.tryAcquire("ip:10.0.0.2", RateLimitRoute.UNFILTERED_LIST));
+        assertEquals(0, rateLimiter.tryAcquire("ip:10.0.0.1", RateLimitRoute.BY_ID));
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.sporteventsapi.service;
+
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.example.sporteventsapi.exception.ConflictException;
+import org.example.sporteventsapi.exception.InvalidStatusChangeException;
+import org.example.sporteventsapi.exception.NoRecordFoundException;
+import org.example.sporteventsapi.history.ReactiveSportEventHistoryWriter;
+import org.example.sporteventsapi.metrics.SportEventMetrics;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.outbox.ReactiveSportEventOutbox;
+import org.example.sporteventsapi.repository.ReactiveSportEventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveSportEventServiceTest {
+    @Mock
+    private ReactiveSportEventRepository sportEventRepository;
+
+    @Spy
+    private SportEventsProperties properties = new SportEventsProperties();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SportEventMetrics metrics;
+
+    @Mock
+    private ReactiveSportEventOutbox outbox;
+
+    @Mock
+    private ReactiveSportEventHistoryWriter historyWriter;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @InjectMocks
+    private ReactiveSportEventService sportEventService;
+
+    @Nested
+    @DisplayName("Change Event Status")
+    class ChangeEventStatus {
+
+        @Test
+        @DisplayName("Test status change is retried when the event was changed concurrently")
+        void test_1() {
+            // Arrange
+            var stale = event(SportEventStatus.ACTIVE, 0L);
+            var fresh = event(SportEventStatus.ACTIVE, 1L);
+
+            when(sportEventRepository.findById(1L)).thenReturn(Mono.just(stale), Mono.just(fresh));
+            when(sportEventRepository.updateEventStatusIfUnchanged(1L, 0L, SportEventStatus.FINISHED)).thenReturn(Mono.just(0L));
+            when(sportEventRepository.updateEventStatusIfUnchanged(1L, 1L, SportEventStatus.FINISHED)).thenReturn(Mono.just(1L));
+            when(outbox.record(any())).thenReturn(Mono.empty());
+            when(historyWriter.record(any())).thenReturn(Mono.empty());
+            runTransactionsInline();
+
+            // Act
+            var updatedEvent = sportEventService.changeEventStatus(1L, SportEventStatus.FINISHED).block();
+
+            // Assert
+            assertNotNull(updatedEvent);
+            assertEquals(SportEventStatus.FINISHED, updatedEvent.getEventStatus());
+            assertEquals(2L, updatedEvent.getVersion());
+            verify(sportEventRepository, times(2)).findById(1L);
+            verify(outbox, times(1)).record(any());
+            verify(historyWriter, times(1)).record(any());
+            verify(eventPublisher, times(1)).publishEvent(any(SportEventChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Test conflict is reported when every attempt loses the race")
+        void test_2() {
+            // Arrange
+            when(sportEventRepository.findById(1L)).thenReturn(Mono.just(event(SportEventStatus.ACTIVE, 0L)));
+            when(sportEventRepository.updateEventStatusIfUnchanged(1L, 0L, SportEventStatus.FINISHED)).thenReturn(Mono.just(0L));
+            runTransactionsInline();
+
+            // Act
+            var changeStatus = sportEventService.changeEventStatus(1L, SportEventStatus.FINISHED);
+
+            // Assert
+            var exception = assertThrows(ConflictException.class, changeStatus::block);
+            assertEquals("Sport Event with id '1' was changed concurrently, please retry", exception.getMessage());
+            verify(sportEventRepository, times(3)).findById(1L);
+            verify(metrics).statusChangeRejected(ConflictException.class, SportEventStatus.ACTIVE, SportEventStatus.FINISHED);
+            verify(eventPublisher, never()).publishEvent(any());
+            verify(outbox, never()).record(any());
+            verify(historyWriter, never()).record(any());
+        }
+
+        @Test
+        @DisplayName("Test the shared transition rules are applied")
+        void test_3() {
+            // Arrange
+            when(sportEventRepository.findById(1L)).thenReturn(Mono.just(event(SportEventStatus.INACTIVE, 0L)));
+
+            // Act
+            var changeStatus = sportEventService.changeEventStatus(1L, SportEventStatus.FINISHED);
+
+            // Assert
+            var exception = assertThrows(InvalidStatusChangeException.class, changeStatus::block);
+            assertEquals("Invalid status change from 'INACTIVE' to 'FINISHED'", exception.getMessage());
+            verify(sportEventRepository, never()).updateEventStatusIfUnchanged(anyLong(), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("Test not found is reported for an unknown event")
+        void test_4() {
+            // Arrange
+            when(sportEventRepository.findById(1L)).thenReturn(Mono.empty());
+
+            // Act
+            var changeStatus = sportEventService.changeEventStatus(1L, SportEventStatus.ACTIVE);
+
+            // Assert
+            assertThrows(NoRecordFoundException.class, changeStatus::block);
+            verify(metrics).statusChangeRejected(NoRecordFoundException.class, null, SportEventStatus.ACTIVE);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionsInline() {
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private static SportEventDTO event(SportEventStatus status, long version) {
+        return new SportEventDTO(1L, "Test Event", SportType.FOOTBALL, status, LocalDateTime.now().minusHours(1), version);
+    }
+}
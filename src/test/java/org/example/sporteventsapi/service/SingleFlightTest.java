@@ -0,0 +1,117 @@
+package org.example.sporteventsapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.sporteventsapi.exception.NoRecordFoundException;
+import org.example.sporteventsapi.metrics.SportEventMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Single flight test")
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(new SportEventMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Concurrent identical loads run once and share the result")
+    void test_1() throws Exception {
+        // Arrange
+        var callers = 8;
+        var loads = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(callers);
+        var results = new ArrayList<Future<String>>();
+
+        // Act
+        try {
+            results.add(executor.submit(() -> singleFlight.execute("op", 1L, () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "event-1";
+            })));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("op", 1L, () -> {
+                    loads.incrementAndGet();
+                    return "reloaded";
+                })));
+            }
+            // Followers only register once they found the flight, wait until all of them did
+            while (sharedCount() < callers - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            for (var result : results) {
+                assertEquals("event-1", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(1, meterRegistry.get(SportEventMetrics.SINGLE_FLIGHT)
+                .tags("operation", "op", "outcome", "loaded").counter().count());
+    }
+
+    @Test
+    @DisplayName("A failed load is not remembered, the next call loads again")
+    void test_2() {
+        // Arrange
+        assertThrows(NoRecordFoundException.class, () -> singleFlight.execute("op", 1L, () -> {
+            throw new NoRecordFoundException("Sport Event", "id", "1");
+        }));
+
+        // Act
+        var result = singleFlight.execute("op", 1L, () -> "event-1");
+
+        // Assert
+        assertEquals("event-1", result);
+    }
+
+    @Test
+    @DisplayName("Different keys and operations do not share a load")
+    void test_3() {
+        // Act
+        var nested = singleFlight.execute("op", 1L, () -> singleFlight.execute("op", 2L,
+                () -> singleFlight.execute("other", 1L, () -> "inner")));
+
+        // Assert
+        assertEquals("inner", nested);
+        assertEquals(3, meterRegistry.get(SportEventMetrics.SINGLE_FLIGHT).tags("outcome", "loaded").counters()
+                .stream().mapToDouble(counter -> counter.count()).sum());
+    }
+
+    private double sharedCount() {
+        var counter = meterRegistry.find(SportEventMetrics.SINGLE_FLIGHT).tags("outcome", "shared").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
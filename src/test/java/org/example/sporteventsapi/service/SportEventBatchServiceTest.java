@@ -0,0 +1,249 @@
+package org.example.sporteventsapi.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.example.sporteventsapi.config.SportEventsProperties;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.dto.SportEventStatusChangeRequest;
+import org.example.sporteventsapi.dto.SportEventStatusChangeResult;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.example.sporteventsapi.exception.InvalidRequestParameterException;
+import org.example.sporteventsapi.metrics.SportEventMetrics;
+import org.example.sporteventsapi.model.SportEvent;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.repository.SportEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SportEventBatchServiceTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private SportEventRepository sportEventRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SportEventMetrics metrics;
+
+    private SportEventBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new SportEventsProperties();
+        properties.getBatch().setChunkSize(2);
+        properties.getBatch().setMaxSize(10);
+        batchService = new SportEventBatchService(sportEventRepository, entityManager, transactionTemplate,
+                VALIDATOR, properties, eventPublisher, metrics);
+    }
+
+    @Nested
+    @DisplayName("Batch create")
+    class BatchCreate {
+
+        @Test
+        @DisplayName("Valid items are inserted in chunks and invalid ones are reported by index")
+        void test_1() {
+            // Arrange
+            runTransactionsInline();
+            var ids = new AtomicLong();
+            when(sportEventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+                List<SportEvent> entities = invocation.getArgument(0);
+                entities.forEach(entity -> entity.setId(ids.incrementAndGet()));
+                return entities;
+            });
+            var items = new ArrayList<>(List.of(event("one"), event("two"), event(""), event("four")));
+
+            // Act
+            var result = batchService.createSportEvents(items);
+
+            // Assert
+            assertEquals(List.of(1L, 2L, 3L), result.getCreated().stream().map(SportEventDTO::getId).toList());
+            assertEquals(1, result.getErrors().size());
+            assertEquals(2, result.getErrors().get(0).getIndex());
+            assertEquals("name", result.getErrors().get(0).getErrors().get(0).get("field"));
+            verify(transactionTemplate, times(2)).execute(any());
+            verify(eventPublisher, times(3)).publishEvent(any(SportEventChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("A failing chunk is reported item by item while other chunks are kept")
+        void test_2() {
+            // Arrange
+            runTransactionsInline();
+            when(sportEventRepository.saveAll(anyList()))
+                    .thenAnswer(invocation -> invocation.getArgument(0))
+                    .thenThrow(new DataIntegrityViolationException("Unique index or primary key violation: \"PUBLIC.PK_SPORT_EVENTS\""));
+
+            // Act
+            var result = batchService.createSportEvents(List.of(event("one"), event("two"), event("three")));
+
+            // Assert
+            assertEquals(2, result.getCreated().size());
+            assertEquals(1, result.getErrors().size());
+            assertEquals(2, result.getErrors().get(0).getIndex());
+            assertEquals("Could not be stored: conflicts with stored data", result.getErrors().get(0).getDetail());
+        }
+
+        @Test
+        @DisplayName("Other storage failures are reported with a generic detail, never the driver message")
+        void test_4() {
+            // Arrange
+            runTransactionsInline();
+            when(sportEventRepository.saveAll(anyList()))
+                    .thenThrow(new DataAccessResourceFailureException("Connection to db.internal:5432 refused"));
+
+            // Act
+            var result = batchService.createSportEvents(List.of(event("one")));
+
+            // Assert
+            assertEquals(0, result.getCreated().size());
+            assertEquals("Could not be stored", result.getErrors().get(0).getDetail());
+        }
+
+        @Test
+        @DisplayName("Requests above the configured size are rejected")
+        void test_3() {
+            // Arrange
+            var items = new ArrayList<SportEventDTO>();
+            for (int i = 0; i < 11; i++) {
+                items.add(event("event-" + i));
+            }
+
+            // Act & Assert
+            assertThrows(InvalidRequestParameterException.class, () -> batchService.createSportEvents(items));
+            verifyNoInteractions(sportEventRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk status change")
+    class BulkStatusChange {
+
+        @Test
+        @DisplayName("Valid transitions are applied in one version-guarded batch, others are rejected with a reason")
+        void test_1() {
+            // Arrange
+            var inactive = stored(1L, SportEventStatus.INACTIVE, LocalDateTime.now().plusHours(1));
+            var finished = stored(2L, SportEventStatus.FINISHED, LocalDateTime.now().plusHours(1));
+            when(sportEventRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(inactive, finished));
+            when(sportEventRepository.findAllById(List.of(3L))).thenReturn(List.of());
+            when(sportEventRepository.updateEventStatusesIfUnchanged(anyList(), eq(SportEventStatus.ACTIVE))).thenReturn(new boolean[]{true});
+
+            // Act
+            var result = batchService.changeEventStatuses(SportEventStatusChangeRequest.builder()
+                    .ids(List.of(1L, 2L, 3L))
+                    .newStatus(SportEventStatus.ACTIVE)
+                    .build());
+
+            // Assert
+            assertEquals(1, result.getUpdated().size());
+            assertEquals(SportEventStatus.ACTIVE, result.getUpdated().get(0).getEventStatus());
+            assertEquals(1L, result.getUpdated().get(0).getVersion());
+            assertEquals(List.of(3L, 2L), result.getRejected().stream().map(SportEventStatusChangeResult.Rejection::getId).toList());
+            assertEquals("No Sport Event was found by id with value '3'", result.getRejected().get(0).getReason());
+            assertEquals("Invalid status change from 'FINISHED' to 'ACTIVE'", result.getRejected().get(1).getReason());
+            verify(eventPublisher).publishEvent(any(SportEventChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Events changed concurrently between read and update are reported as rejected")
+        void test_2() {
+            // Arrange
+            var first = stored(1L, SportEventStatus.ACTIVE, LocalDateTime.now().minusHours(1));
+            var second = stored(2L, SportEventStatus.ACTIVE, LocalDateTime.now().minusHours(1));
+            when(sportEventRepository.findAllByEventStatus(SportType.FOOTBALL, SportEventStatus.ACTIVE, Limit.of(11)))
+                    .thenReturn(List.of(first, second));
+            when(sportEventRepository.updateEventStatusesIfUnchanged(anyList(), eq(SportEventStatus.FINISHED)))
+                    .thenReturn(new boolean[]{true, false});
+
+            // Act
+            var result = batchService.changeEventStatuses(SportEventStatusChangeRequest.builder()
+                    .sportType(SportType.FOOTBALL)
+                    .currentStatus(SportEventStatus.ACTIVE)
+                    .newStatus(SportEventStatus.FINISHED)
+                    .build());
+
+            // Assert
+            assertEquals(List.of(1L), result.getUpdated().stream().map(SportEventDTO::getId).toList());
+            assertEquals(1, result.getRejected().size());
+            assertEquals(2L, result.getRejected().get(0).getId());
+            assertEquals("Event status was changed concurrently", result.getRejected().get(0).getReason());
+        }
+
+        @Test
+        @DisplayName("Oversized selections are rejected before events are loaded or changed")
+        void test_3() {
+            // Arrange
+            var ids = LongStream.rangeClosed(1, 11).boxed().toList();
+            var selected = LongStream.rangeClosed(1, 11)
+                    .mapToObj(id -> stored(id, SportEventStatus.ACTIVE, LocalDateTime.now().minusHours(1)))
+                    .toList();
+            when(sportEventRepository.findAllByEventStatus(null, SportEventStatus.ACTIVE, Limit.of(11))).thenReturn(selected);
+
+            // Act & Assert
+            assertThrows(InvalidRequestParameterException.class, () -> batchService.changeEventStatuses(
+                    SportEventStatusChangeRequest.builder().ids(ids).newStatus(SportEventStatus.FINISHED).build()));
+            assertThrows(InvalidRequestParameterException.class, () -> batchService.changeEventStatuses(
+                    SportEventStatusChangeRequest.builder().currentStatus(SportEventStatus.ACTIVE).newStatus(SportEventStatus.FINISHED).build()));
+            verify(sportEventRepository, never()).findAllById(any());
+            verify(sportEventRepository, never()).updateEventStatusesIfUnchanged(anyList(), any());
+        }
+    }
+
+    private static SportEvent stored(Long id, SportEventStatus status, LocalDateTime startTime) {
+        var sportEvent = new SportEvent("event-" + id, SportType.FOOTBALL, status, startTime);
+        sportEvent.setId(id);
+        sportEvent.setVersion(0L);
+        return sportEvent;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    private static SportEventDTO event(String name) {
+        return SportEventDTO.builder()
+                .name(name)
+                .sportType(SportType.FOOTBALL)
+                .eventStatus(SportEventStatus.INACTIVE)
+                .startTime(LocalDateTime.of(2030, 1, 1, 10, 0))
+                .build();
+    }
+}
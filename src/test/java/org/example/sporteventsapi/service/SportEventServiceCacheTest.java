@@ -0,0 +1,120 @@
+package org.example.sporteventsapi.service;
+
+import org.example.sporteventsapi.cache.SportEventCache;
+import org.example.sporteventsapi.config.CacheConfig;
+import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.model.SportEvent;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.repository.SportEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@DisplayName("Sport event cache test")
+class SportEventServiceCacheTest {
+
+    @MockBean
+    private SportEventRepository sportEventRepository;
+
+    @Autowired
+    private SportEventService sportEventService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private SportEventCache sportEventCache;
+
+    @BeforeEach
+    void clearCache() {
+        cacheManager.getCache(CacheConfig.SPORT_EVENTS_CACHE).clear();
+    }
+
+    @Test
+    @DisplayName("Repeated reads by id are served from the cache")
+    void test_1() {
+        // Arrange
+        when(sportEventRepository.findById(1L)).thenReturn(Optional.of(sportEvent(1L, SportEventStatus.INACTIVE)));
+
+        // Act
+        sportEventService.getSportEventById(1L);
+        var result = sportEventService.getSportEventById(1L);
+
+        // Assert
+        assertEquals(1L, result.getId());
+        verify(sportEventRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Status change refreshes the cached event")
+    void test_2() {
+        // Arrange
+        when(sportEventRepository.findById(2L)).thenReturn(Optional.of(sportEvent(2L, SportEventStatus.INACTIVE)));
+        when(sportEventRepository.updateEventStatusIfUnchanged(2L, 0L, SportEventStatus.ACTIVE)).thenReturn(1);
+        sportEventService.getSportEventById(2L);
+
+        // Act
+        sportEventService.changeEventStatus(2L, SportEventStatus.ACTIVE);
+        var result = sportEventService.getSportEventById(2L);
+
+        // Assert
+        assertEquals(SportEventStatus.ACTIVE, result.getEventStatus());
+        verify(sportEventRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("Created event is cached without reading it back")
+    void test_3() {
+        // Arrange
+        when(sportEventRepository.save(any(SportEvent.class))).thenReturn(sportEvent(3L, SportEventStatus.INACTIVE));
+
+        // Act
+        var created = sportEventService.createSportEvent(SportEventDTO.builder()
+                .name("Cached Event")
+                .sportType(SportType.FOOTBALL)
+                .eventStatus(SportEventStatus.INACTIVE)
+                .startTime(LocalDateTime.now().plusHours(1))
+                .build());
+        var result = sportEventService.getSportEventById(created.getId());
+
+        // Assert
+        assertEquals("Cached Event", result.getName());
+        verify(sportEventRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("A load finishing after a newer version was written through neither replaces nor hides it")
+    void test_4() {
+        // Arrange
+        var stale = SportEventDTO.builder().id(4L).name("Cached Event").eventStatus(SportEventStatus.INACTIVE).version(0L).build();
+        var fresh = stale.toBuilder().eventStatus(SportEventStatus.ACTIVE).version(1L).build();
+        sportEventCache.store(fresh);
+
+        // Act
+        var returned = sportEventCache.store(stale);
+
+        // Assert
+        assertEquals(fresh, returned);
+        assertEquals(fresh, sportEventCache.get(4L));
+    }
+
+    private static SportEvent sportEvent(Long id, SportEventStatus status) {
+        var sportEvent = new SportEvent("Cached Event", SportType.FOOTBALL, status, LocalDateTime.now().plusHours(1));
+        sportEvent.setId(id);
+        sportEvent.setVersion(0L);
+        return sportEvent;
+    }
+}
@@ -1,12 +1,25 @@
 package org.example.sporteventsapi.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.SneakyThrows;
+import org.example.sporteventsapi.cache.SportEventCache;
+import org.example.sporteventsapi.config.CacheConfig;
+import org.example.sporteventsapi.config.SportEventsProperties;
 import org.example.sporteventsapi.dto.SportEventDTO;
+import org.example.sporteventsapi.dto.SportEventFilter;
+import org.example.sporteventsapi.event.SportEventChangedEvent;
+import org.example.sporteventsapi.exception.ConflictException;
+import org.example.sporteventsapi.exception.InvalidRequestParameterException;
 import org.example.sporteventsapi.exception.InvalidStatusChangeException;
 import org.example.sporteventsapi.exception.NoRecordFoundException;
+import org.example.sporteventsapi.index.SportEventIndex;
+import org.example.sporteventsapi.index.SportEventNameIndex;
+import org.example.sporteventsapi.metrics.SportEventMetrics;
 import org.example.sporteventsapi.model.SportEvent;
+import org.example.sporteventsapi.model.SportEventSort;
 import org.example.sporteventsapi.model.SportEventStatus;
 import org.example.sporteventsapi.model.SportType;
+import org.example.sporteventsapi.repository.SportEventPosition;
 import org.example.sporteventsapi.repository.SportEventRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,14 +29,23 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +53,27 @@ class SportEventServiceTest {
     @Mock
     private SportEventRepository sportEventRepository;
 
+    @Spy
+    private SportEventsProperties properties = new SportEventsProperties();
+
+    @Mock
+    private SportEventIndex sportEventIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SportEventMetrics metrics;
+
+    @Mock
+    private SportEventNameIndex sportEventNameIndex;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SportEventMetrics(new SimpleMeterRegistry()));
+
+    @Spy
+    private SportEventCache sportEventCache = new SportEventCache(new ConcurrentMapCacheManager(CacheConfig.SPORT_EVENTS_CACHE));
+
     @InjectMocks
     private SportEventService sportEventService;
 
@@ -43,7 +86,7 @@ class SportEventServiceTest {
         void test_1() {
             // Arrange
             var sportEventDTO = new SportEventDTO(null, "Test Event", SportType.FOOTBALL, SportEventStatus.ACTIVE,
-                    LocalDateTime.of(2025, 11, 16, 15, 30, 45));
+                    LocalDateTime.of(2025, 11, 16, 15, 30, 45), null);
             var createdSportEvent = new SportEvent("Test Event", SportType.FOOTBALL, SportEventStatus.ACTIVE,
                     LocalDateTime.of(2025, 11, 16, 15, 30, 45));
             createdSportEvent.setId(2L);
@@ -60,6 +103,8 @@ class SportEventServiceTest {
             assertEquals(SportType.FOOTBALL, result.getSportType());
             assertEquals(SportEventStatus.ACTIVE, result.getEventStatus());
             verify(sportEventRepository).save(any(SportEvent.class));
+            verify(eventPublisher).publishEvent(argThat((SportEventChangedEvent event) ->
+                    event.getPrevious() == null && result.equals(event.getCurrent())));
         }
     }
 
@@ -86,6 +131,7 @@ class SportEventServiceTest {
 
         // Assert
         assertEquals(expectedMessage, exception.getMessage());
+        verify(metrics).statusChangeRejected(InvalidStatusChangeException.class, currentStatus, newStatus);
     }
 
     @Nested
@@ -100,14 +146,18 @@ class SportEventServiceTest {
             sportEvent.setId(1L);
             sportEvent.setEventStatus(SportEventStatus.INACTIVE);
             sportEvent.setStartTime(LocalDateTime.now().plusHours(1));
+            sportEvent.setVersion(0L);
 
             when(sportEventRepository.findById(1L)).thenReturn(Optional.of(sportEvent));
+            when(sportEventRepository.updateEventStatusIfUnchanged(1L, 0L, SportEventStatus.ACTIVE)).thenReturn(1);
 
             // Act
             var updatedEvent = sportEventService.changeEventStatus(1L, SportEventStatus.ACTIVE);
 
             // Assert
             assertEquals(SportEventStatus.ACTIVE, updatedEvent.getEventStatus());
+            assertEquals(1L, updatedEvent.getVersion());
+            verify(eventPublisher).publishEvent(any(SportEventChangedEvent.class));
         }
 
         @Test
@@ -119,8 +169,10 @@ class SportEventServiceTest {
             sportEvent.setId(1L);
             sportEvent.setEventStatus(SportEventStatus.ACTIVE);
             sportEvent.setStartTime(LocalDateTime.now().minusHours(1));
+            sportEvent.setVersion(3L);
 
             when(sportEventRepository.findById(1L)).thenReturn(Optional.of(sportEvent));
+            when(sportEventRepository.updateEventStatusIfUnchanged(1L, 3L, SportEventStatus.FINISHED)).thenReturn(1);
 
             // Act
             var updatedEvent = sportEventService.changeEventStatus(1L, SportEventStatus.FINISHED);
@@ -186,7 +238,56 @@ class SportEventServiceTest {
             // Assert
             assertEquals("Invalid status change from 'ACTIVE' to 'null'", exception.getMessage());
             verify(sportEventRepository).findById(eventId);
-            verify(sportEventRepository, never()).save(any());
+            verify(sportEventRepository, never()).updateEventStatusIfUnchanged(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Test concurrent update is retried against the fresh version")
+        public void test_5() {
+            // Arrange
+            var stale = new SportEvent("Test Event", SportType.FOOTBALL, SportEventStatus.ACTIVE,
+                    LocalDateTime.now().minusHours(1));
+            stale.setId(1L);
+            stale.setVersion(0L);
+            var fresh = new SportEvent("Test Event", SportType.FOOTBALL, SportEventStatus.ACTIVE,
+                    LocalDateTime.now().minusHours(1));
+            fresh.setId(1L);
+            fresh.setVersion(1L);
+
+            when(sportEventRepository.findById(1L)).thenReturn(Optional.of(stale), Optional.of(fresh));
+            when(sportEventRepository.updateEventStatusIfUnchanged(1L, 0L, SportEventStatus.FINISHED)).thenReturn(0);
+            when(sportEventRepository.updateEventStatusIfUnchanged(1L, 1L, SportEventStatus.FINISHED)).thenReturn(1);
+
+            // Act
+            var updatedEvent = sportEventService.changeEventStatus(1L, SportEventStatus.FINISHED);
+
+            // Assert
+            assertEquals(SportEventStatus.FINISHED, updatedEvent.getEventStatus());
+            assertEquals(2L, updatedEvent.getVersion());
+            verify(sportEventRepository, times(2)).findById(1L);
+            verify(eventPublisher, times(1)).publishEvent(any(SportEventChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Test conflict is reported when every attempt loses the race")
+        public void test_6() {
+            // Arrange
+            var sportEvent = new SportEvent("Test Event", SportType.FOOTBALL, SportEventStatus.ACTIVE,
+                    LocalDateTime.now().minusHours(1));
+            sportEvent.setId(1L);
+            sportEvent.setVersion(0L);
+
+            when(sportEventRepository.findById(1L)).thenReturn(Optional.of(sportEvent));
+            when(sportEventRepository.updateEventStatusIfUnchanged(1L, 0L, SportEventStatus.FINISHED)).thenReturn(0);
+
+            // Act
+            var exception = assertThrows(ConflictException.class,
+                    () -> sportEventService.changeEventStatus(1L, SportEventStatus.FINISHED));
+
+            // Assert
+            assertEquals("Sport Event with id '1' was changed concurrently, please retry", exception.getMessage());
+            verify(sportEventRepository, times(3)).findById(1L);
+            verify(eventPublisher, never()).publishEvent(any());
         }
     }
 
@@ -200,16 +301,17 @@ class SportEventServiceTest {
             // Arrange
             var type = SportType.FOOTBALL;
             var status = SportEventStatus.ACTIVE;
-            var events = List.of(new SportEvent());
+            var events = List.of(new SportEventDTO());
 
-            when(sportEventRepository.findAllBySportTypeAndEventStatus(type, status)).thenReturn(events);
+            when(sportEventRepository.findPage(filter(type, status), SportEventSort.ID, null, 101)).thenReturn(events);
 
             // Act
-            var result = sportEventService.getSportEvents(type, status);
+            var result = sportEventService.getSportEvents(filter(type, status), null, null, null);
 
             // Assert
-            verify(sportEventRepository).findAllBySportTypeAndEventStatus(type, status);
-            assertEquals(events.size(), result.size());
+            verify(sportEventRepository).findPage(filter(type, status), SportEventSort.ID, null, 101);
+            assertEquals(events.size(), result.getItems().size());
+            assertNull(result.getNextCursor());
         }
 
         @Test
@@ -217,16 +319,16 @@ class SportEventServiceTest {
         void test_2() {
             // Arrange
             var type = SportType.BASKETBALL;
-            var events = List.of(new SportEvent());
+            var events = List.of(new SportEventDTO());
 
-            when(sportEventRepository.findAllBySportType(type)).thenReturn(events);
+            when(sportEventRepository.findPage(filter(type, null), SportEventSort.ID, null, 101)).thenReturn(events);
 
             // Act
-            var result = sportEventService.getSportEvents(type, null);
+            var result = sportEventService.getSportEvents(filter(type, null), null, null, null);
 
             // Assert
-            verify(sportEventRepository).findAllBySportType(type);
-            assertEquals(events.size(), result.size());
+            verify(sportEventRepository).findPage(filter(type, null), SportEventSort.ID, null, 101);
+            assertEquals(events.size(), result.getItems().size());
         }
 
         @Test
@@ -234,32 +336,69 @@ class SportEventServiceTest {
         void test_3() {
             // Arrange
             var status = SportEventStatus.INACTIVE;
-            var events = List.of(new SportEvent());
+            var events = List.of(new SportEventDTO());
 
-            when(sportEventRepository.findAllByEventStatus(status)).thenReturn(events);
+            when(sportEventRepository.findPage(filter(null, status), SportEventSort.ID, null, 101)).thenReturn(events);
 
             // Act
-            var result = sportEventService.getSportEvents(null, status);
+            var result = sportEventService.getSportEvents(filter(null, status), null, null, null);
 
             // Assert
-            verify(sportEventRepository).findAllByEventStatus(status);
-            assertEquals(events.size(), result.size());
+            verify(sportEventRepository).findPage(filter(null, status), SportEventSort.ID, null, 101);
+            assertEquals(events.size(), result.getItems().size());
         }
 
         @Test
         @DisplayName("When getting sport event with no filers then return all sport events")
         void test_4() {
             // Arrange
-            var events = List.of(new SportEvent());
+            var events = List.of(new SportEventDTO());
+
+            when(sportEventRepository.findPage(filter(null, null), SportEventSort.ID, null, 101)).thenReturn(events);
 
-            when(sportEventRepository.findAll()).thenReturn(events);
+            // Act
+            var result = sportEventService.getSportEvents(filter(null, null), null, null, null);
+
+            // Assert
+            verify(sportEventRepository).findPage(filter(null, null), SportEventSort.ID, null, 101);
+            assertEquals(events.size(), result.getItems().size());
+        }
+
+        @Test
+        @DisplayName("When the index is ready then listings are served without touching the repository")
+        void test_7() {
+            // Arrange
+            var indexed = List.of(SportEventDTO.builder().id(7L).sportType(SportType.TENNIS).eventStatus(SportEventStatus.ACTIVE).build());
+            when(sportEventIndex.isReady()).thenReturn(true);
+            when(sportEventIndex.findPage(SportType.TENNIS, SportEventStatus.ACTIVE, 0L, 101)).thenReturn(indexed);
+
+            // Act
+            var result = sportEventService.getSportEvents(filter(SportType.TENNIS, SportEventStatus.ACTIVE), null, null, null);
+
+            // Assert
+            assertEquals(indexed, result.getItems());
+            verifyNoInteractions(sportEventRepository);
+        }
+
+        @Test
+        @DisplayName("When the index is ready then entity tags are derived from it")
+        void test_8() {
+            // Arrange
+            var indexed = SportEventDTO.builder().id(8L).version(3L).sportType(SportType.TENNIS).eventStatus(SportEventStatus.ACTIVE).build();
+            when(sportEventIndex.isReady()).thenReturn(true);
+            when(sportEventIndex.get(8L)).thenReturn(indexed);
+            when(sportEventIndex.getVersion(SportType.TENNIS, null)).thenReturn(5L, 6L);
 
             // Act
-            var result = sportEventService.getSportEvents(null, null);
+            var eTag = sportEventService.getSportEventETag(8L);
+            var listTag = sportEventService.getSportEventsETag(filter(SportType.TENNIS, null), null, null, 10);
+            var changedListTag = sportEventService.getSportEventsETag(filter(SportType.TENNIS, null), null, null, 10);
 
             // Assert
-            verify(sportEventRepository).findAll();
-            assertEquals(events.size(), result.size());
+            assertEquals("\"8-3\"", eTag);
+            assertTrue(listTag.startsWith("W/\""));
+            assertNotEquals(listTag, changedListTag);
+            verifyNoInteractions(sportEventRepository);
         }
 
         @Test
@@ -299,4 +438,175 @@ class SportEventServiceTest {
             assertEquals("No Sport Event was found by id with value '999'", exception.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Pagination and streaming")
+    class Pagination {
+
+        @Test
+        @DisplayName("When more events than the limit exist then next cursor points after the last returned id")
+        void test_1() {
+            // Arrange
+            var events = new ArrayList<SportEventDTO>();
+            for (long id = 1; id <= 3; id++) {
+                events.add(SportEventDTO.builder().id(id).build());
+            }
+            when(sportEventRepository.findPage(filter(null, null), SportEventSort.ID, null, 3)).thenReturn(events);
+
+            // Act
+            var firstPage = sportEventService.getSportEvents(filter(null, null), null, null, 2);
+
+            // Assert
+            assertEquals(2, firstPage.getItems().size());
+            assertNotNull(firstPage.getNextCursor());
+
+            // Act
+            sportEventService.getSportEvents(filter(null, null), null, firstPage.getNextCursor(), 2);
+
+            // Assert
+            verify(sportEventRepository).findPage(filter(null, null), SportEventSort.ID, new SportEventPosition(null, 2L), 3);
+        }
+
+        @Test
+        @DisplayName("When sorted by start time then the database is queried and the cursor carries the start time")
+        void test_6() {
+            // Arrange
+            var startTime = LocalDateTime.of(2030, 5, 1, 18, 30, 15, 500);
+            var events = new ArrayList<SportEventDTO>();
+            for (long id = 1; id <= 3; id++) {
+                events.add(SportEventDTO.builder().id(id).name("Event " + id).startTime(startTime.plusHours(id)).build());
+            }
+            var filter = filter(SportType.FOOTBALL, null);
+            when(sportEventIndex.isReady()).thenReturn(true);
+            when(sportEventRepository.findPage(filter, SportEventSort.START_TIME, null, 3)).thenReturn(events);
+
+            // Act
+            var firstPage = sportEventService.getSportEvents(filter, SportEventSort.START_TIME, null, 2);
+            sportEventService.getSportEvents(filter, SportEventSort.START_TIME, firstPage.getNextCursor(), 2);
+
+            // Assert
+            verify(sportEventRepository).findPage(filter, SportEventSort.START_TIME,
+                    new SportEventPosition(startTime.plusHours(2), 2L), 3);
+            verify(sportEventIndex, never()).findPage(any(), any(), anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("When a cursor of another sort order is passed then exception is thrown")
+        void test_7() {
+            // Arrange
+            var event = SportEventDTO.builder().id(1L).build();
+            when(sportEventRepository.findPage(filter(null, null), SportEventSort.ID, null, 2))
+                    .thenReturn(List.of(event, event));
+            var cursor = sportEventService.getSportEvents(filter(null, null), null, null, 1).getNextCursor();
+
+            // Act & Assert
+            assertThrows(InvalidRequestParameterException.class,
+                    () -> sportEventService.getSportEvents(filter(null, null), SportEventSort.START_TIME_DESC, cursor, 1));
+        }
+
+        @Test
+        @DisplayName("When a cursor of the opposite start time order is passed then exception is thrown")
+        void test_8() {
+            // Arrange
+            var event = SportEventDTO.builder().id(1L).startTime(LocalDateTime.of(2030, 5, 1, 18, 30)).build();
+            when(sportEventRepository.findPage(filter(null, null), SportEventSort.START_TIME, null, 2))
+                    .thenReturn(List.of(event, event));
+            var cursor = sportEventService.getSportEvents(filter(null, null), SportEventSort.START_TIME, null, 1).getNextCursor();
+
+            // Act
+            var exception = assertThrows(InvalidRequestParameterException.class,
+                    () -> sportEventService.getSportEvents(filter(null, null), SportEventSort.START_TIME_DESC, cursor, 1));
+
+            // Assert
+            assertEquals("Invalid value '%s' for parameter 'cursor': issued for another sort order".formatted(cursor),
+                    exception.getMessage());
+            verify(sportEventRepository, never()).findPage(any(), eq(SportEventSort.START_TIME_DESC), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("When limit exceeds the maximum then it is clamped")
+        void test_2() {
+            // Act
+            sportEventService.getSportEvents(filter(null, null), null, null, 1_000_000);
+
+            // Assert
+            verify(sportEventRepository).findPage(filter(null, null), SportEventSort.ID, null, 1001);
+        }
+
+        @Test
+        @DisplayName("When cursor is malformed then exception is thrown")
+        void test_3() {
+            // Act
+            var exception = assertThrows(InvalidRequestParameterException.class,
+                    () -> sportEventService.getSportEvents(filter(null, null), null, "not a cursor", null));
+
+            // Assert
+            assertEquals("Invalid value 'not a cursor' for parameter 'cursor'", exception.getMessage());
+            verify(sportEventRepository, never()).findPage(any(), any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("When limit is not positive then exception is thrown")
+        void test_4() {
+            assertThrows(InvalidRequestParameterException.class,
+                    () -> sportEventService.getSportEvents(filter(null, null), null, null, 0));
+        }
+
+        @Test
+        @DisplayName("When streaming then every event is passed to the consumer in order")
+        void test_5() {
+            // Arrange
+            var first = SportEventDTO.builder().name("First").sportType(SportType.FOOTBALL).build();
+            var second = SportEventDTO.builder().name("Second").sportType(SportType.FOOTBALL).build();
+            when(sportEventRepository.streamAll(SportType.FOOTBALL, null)).thenReturn(Stream.of(first, second));
+            var names = new ArrayList<String>();
+
+            // Act
+            sportEventService.streamSportEvents(SportType.FOOTBALL, null, dto -> names.add(dto.getName()));
+
+            // Assert
+            assertEquals(List.of("First", "Second"), names);
+        }
+    }
+
+    @Nested
+    @DisplayName("Search")
+    class Search {
+
+        @Test
+        @DisplayName("When a lone prefix is too short then the search is refused with the reason")
+        void test_1() {
+            // Arrange
+            when(sportEventNameIndex.isReady()).thenReturn(true);
+
+            // Act
+            var exception = assertThrows(InvalidRequestParameterException.class,
+                    () -> sportEventService.searchSportEvents("f", null, null, null, null));
+
+            // Assert
+            assertEquals("Invalid value 'f' for parameter 'q': a single term needs at least 2 characters", exception.getMessage());
+            verify(metrics).searchRejected("short_prefix");
+            verify(sportEventNameIndex, never()).search(any(), any(), any(), anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("When a lone prefix starts too many tokens then the search is refused, with more terms it is not")
+        void test_2() {
+            // Arrange
+            properties.getSearch().setMaxPrefixTokens(2);
+            when(sportEventNameIndex.isReady()).thenReturn(true);
+            when(sportEventNameIndex.prefixTokenCount("fi", 2)).thenReturn(3);
+            when(sportEventNameIndex.search(List.of("grand", "fi"), null, null, 0L, 101)).thenReturn(List.of());
+
+            // Act & Assert
+            assertThrows(InvalidRequestParameterException.class,
+                    () -> sportEventService.searchSportEvents("fi", null, null, null, null));
+            verify(metrics).searchRejected("broad_prefix");
+            assertTrue(sportEventService.searchSportEvents("grand fi", null, null, null, null).getItems().isEmpty());
+        }
+    }
+
+    private static SportEventFilter filter(SportType type, SportEventStatus status) {
+        return SportEventFilter.builder().type(type).status(status).build();
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.sporteventsapi.service;
+
+import org.example.sporteventsapi.exception.InvalidStatusChangeException;
+import org.example.sporteventsapi.model.SportEventStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatusTransitionsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    @ParameterizedTest
+    @DisplayName("Every transition is accepted or rejected with its message")
+    @CsvSource(value = {
+            "INACTIVE, INACTIVE, ",
+            "INACTIVE, ACTIVE, ",
+            "INACTIVE, FINISHED, Invalid status change from 'INACTIVE' to 'FINISHED'",
+            "ACTIVE, INACTIVE, ",
+            "ACTIVE, ACTIVE, Event is already ACTIVE",
+            "ACTIVE, FINISHED, ",
+            "FINISHED, INACTIVE, Invalid status change from 'FINISHED' to 'INACTIVE'",
+            "FINISHED, ACTIVE, Invalid status change from 'FINISHED' to 'ACTIVE'",
+            "FINISHED, FINISHED, Event is already FINISHED",
+            "ACTIVE, , Invalid status change from 'ACTIVE' to 'null'"
+    })
+    void test_1(SportEventStatus current, SportEventStatus attempted, String message) {
+        // Act
+        Executable validate = () -> StatusTransitions.validate(current, NOW.plusDays(1), attempted, NOW);
+
+        // Assert
+        if (message == null) {
+            assertDoesNotThrow(validate);
+        } else {
+            var exception = assertThrows(InvalidStatusChangeException.class, validate);
+            assertEquals(message, exception.getMessage());
+            assertEquals(current, exception.getCurrentStatus());
+            assertEquals(attempted, exception.getAttemptedStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("Activating an event that has already started is rejected")
+    void test_2() {
+        // Act
+        var exception = assertThrows(InvalidStatusChangeException.class, () -> StatusTransitions.validate(
+                SportEventStatus.INACTIVE, NOW.minusMinutes(1), SportEventStatus.ACTIVE, NOW));
+
+        // Assert
+        assertEquals("Cannot activate a sports event that has already started", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Rejections are preallocated and carry no stack trace")
+    void test_3() {
+        // Act
+        var first = assertThrows(InvalidStatusChangeException.class, () -> StatusTransitions.validate(
+                SportEventStatus.FINISHED, NOW, SportEventStatus.ACTIVE, NOW));
+        var second = assertThrows(InvalidStatusChangeException.class, () -> StatusTransitions.validate(
+                SportEventStatus.FINISHED, NOW, SportEventStatus.ACTIVE, NOW));
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(0, first.getStackTrace().length);
+    }
+}